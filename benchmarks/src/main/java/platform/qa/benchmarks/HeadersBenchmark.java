@@ -0,0 +1,79 @@
+/*
+ * Copyright 2022 EPAM Systems.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package platform.qa.benchmarks;
+
+import com.github.javafaker.Faker;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import platform.qa.rest.headers.HeaderProfile;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Building of data factory headers, {@link #fakerHeaders()} is the baseline of header maps
+ * generated with new {@link Faker} per client
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class HeadersBenchmark {
+
+    private final HeaderProfile sharedProfile = HeaderProfile.random();
+
+    @Benchmark
+    public Map<String, String> randomProfile() {
+        return HeaderProfile.random().getAll();
+    }
+
+    @Benchmark
+    public Map<String, String> sharedProfileWithBusinessProcess() {
+        return sharedProfile.withBusinessProcessInstanceId("process").getAll();
+    }
+
+    @Benchmark
+    public Map<String, String> fakerHeaders() {
+        var faker = new Faker();
+        var headers = new HashMap<String, String>();
+        headers.put(HeaderProfile.X_SOURCE_SYSTEM, faker.letterify("??????????"));
+        headers.put(HeaderProfile.X_SOURCE_APPLICATION, faker.letterify("??????????"));
+        headers.put(HeaderProfile.X_XSRF_TOKEN, "Token");
+        headers.put(HeaderProfile.COOKIE, "XSRF-TOKEN=Token");
+        headers.put(HeaderProfile.X_DIGITAL_SIGNATURE, faker.letterify("??????????"));
+        headers.put(HeaderProfile.X_DIGITAL_SIGNATURE_DERIVED, faker.letterify("??????????"));
+        headers.put(HeaderProfile.X_SOURCE_BUSINESS_PROCESS, faker.letterify("??????????"));
+        headers.put(HeaderProfile.X_SOURCE_BUSINESS_ACTIVITY, faker.letterify("??????????"));
+        headers.put(HeaderProfile.X_SOURCE_BUSINESS_PROCESS_DEFINITION_ID, faker.letterify("??????????"));
+        headers.put(HeaderProfile.X_SOURCE_BUSINESS_ACTIVITY_INSTANCE_ID, UUID.randomUUID().toString());
+        String id = UUID.randomUUID().toString();
+        headers.put(HeaderProfile.X_SOURCE_BUSINESS_PROCESS_INSTANCE_ID, id);
+        headers.put(HeaderProfile.X_SOURCE_ROOT_BUSINESS_PROCESS_INSTANCE_ID, id);
+        return headers;
+    }
+}
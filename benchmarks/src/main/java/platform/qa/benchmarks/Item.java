@@ -0,0 +1,73 @@
+/*
+ * Copyright 2022 EPAM Systems.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package platform.qa.benchmarks;
+
+import platform.qa.entities.IEntity;
+
+import java.util.List;
+
+/**
+ * Payload used by benchmarks, mirrors {@link HttpStub#ITEM_JSON}
+ */
+public class Item implements IEntity {
+    private String id;
+    private String name;
+    private List<String> values;
+    private int count;
+
+    public Item() {
+    }
+
+    public Item(String id, String name, List<String> values, int count) {
+        this.id = id;
+        this.name = name;
+        this.values = values;
+        this.count = count;
+    }
+
+    public String getId() {
+        return id;
+    }
+
+    public void setId(String id) {
+        this.id = id;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public void setName(String name) {
+        this.name = name;
+    }
+
+    public List<String> getValues() {
+        return values;
+    }
+
+    public void setValues(List<String> values) {
+        this.values = values;
+    }
+
+    public int getCount() {
+        return count;
+    }
+
+    public void setCount(int count) {
+        this.count = count;
+    }
+}
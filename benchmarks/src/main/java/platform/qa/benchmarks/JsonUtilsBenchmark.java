@@ -0,0 +1,67 @@
+/*
+ * Copyright 2022 EPAM Systems.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package platform.qa.benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import platform.qa.rest.utils.JsonEngine;
+import platform.qa.rest.utils.JsonUtils;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Serialization of payloads by {@link JsonUtils} with both engines
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class JsonUtilsBenchmark {
+
+    @Param({"GSON", "JACKSON"})
+    private JsonEngine engine;
+
+    private final Item item = new Item("0d756563-d6a3-4c5e-9c47-7c3f1e3b4a12", "item",
+            List.of("first", "second", "third"), 3);
+
+    @Setup
+    public void setUp() {
+        JsonUtils.setEngine(engine);
+    }
+
+    @Benchmark
+    public String toJson() {
+        return JsonUtils.toJson(item);
+    }
+
+    @Benchmark
+    public Item fromJson() {
+        return JsonUtils.fromJson(HttpStub.ITEM_JSON, Item.class);
+    }
+}
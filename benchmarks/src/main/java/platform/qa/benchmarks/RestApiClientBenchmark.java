@@ -0,0 +1,76 @@
+/*
+ * Copyright 2022 EPAM Systems.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package platform.qa.benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import platform.qa.rest.RestApiClient;
+
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Construction of {@link RestApiClient}, suites create thousands of clients
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class RestApiClientBenchmark {
+
+    private HttpStub stub;
+    private String url;
+    private String businessProcessInstanceId;
+
+    @Setup
+    public void setUp() {
+        stub = new HttpStub();
+        url = stub.getUrl();
+        businessProcessInstanceId = UUID.randomUUID().toString();
+    }
+
+    @TearDown
+    public void tearDown() {
+        stub.close();
+    }
+
+    @Benchmark
+    public RestApiClient constructWithUrl() {
+        return new RestApiClient(url);
+    }
+
+    @Benchmark
+    public RestApiClient constructWithGeneratedHeaders() {
+        return new RestApiClient(url, "token", businessProcessInstanceId);
+    }
+
+    @Benchmark
+    public RestApiClient constructAndSetToken() {
+        return new RestApiClient(url, "token", businessProcessInstanceId).setToken("another-token");
+    }
+}
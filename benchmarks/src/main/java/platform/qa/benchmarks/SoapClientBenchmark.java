@@ -0,0 +1,66 @@
+/*
+ * Copyright 2022 EPAM Systems.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package platform.qa.benchmarks;
+
+import io.restassured.response.ResponseBodyExtractionOptions;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import platform.qa.rest.SoapClient;
+import platform.qa.rest.logging.HttpLogSettings;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Round trip of {@link SoapClient#post(String, String)} against {@link HttpStub}
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class SoapClientBenchmark {
+
+    private HttpStub stub;
+    private SoapClient client;
+
+    @Setup
+    public void setUp() {
+        stub = new HttpStub();
+        client = new SoapClient(stub.getUrl());
+        client.setLogSettings(HttpLogSettings.disabled());
+    }
+
+    @TearDown
+    public void tearDown() {
+        stub.close();
+    }
+
+    @Benchmark
+    public ResponseBodyExtractionOptions post() {
+        return client.post(HttpStub.SOAP_ENVELOPE, "/soap");
+    }
+}
@@ -0,0 +1,174 @@
+/*
+ * Copyright 2022 EPAM Systems.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package platform.qa.concurrency;
+
+import lombok.extern.log4j.Log4j2;
+import platform.qa.concurrency.exception.FanOutException;
+
+import java.lang.reflect.Method;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Executors for blocking calls of the clients (Rest Assured, Jedis, S3, JGit, etc.).
+ * On Java 21+ every task is run on its own virtual thread, on older Java tasks are run
+ * by pool of daemon threads limited by system property {@code qa.executors.maxThreads} (256 by default).
+ * Virtual threads could be switched off by {@code -Dqa.executors.virtual=false}.
+ * <p>
+ * Example:
+ * <code>
+ *     List&lt;Response&gt; responses = QaExecutors.fanOut(ids.stream()
+ *             .map(id -&gt; (Callable&lt;Response&gt;) () -&gt; client.get(id, url))
+ *             .collect(Collectors.toList()));
+ * </code>
+ */
+@Log4j2
+public final class QaExecutors {
+
+    private static final Method VIRTUAL_EXECUTOR_FACTORY = findVirtualExecutorFactory();
+    private static final int MAX_THREADS = Integer.getInteger("qa.executors.maxThreads", 256);
+    private static final AtomicInteger THREAD_COUNTER = new AtomicInteger();
+
+    private QaExecutors() {
+        throw new IllegalStateException("This is utility class!");
+    }
+
+    public static boolean isVirtualThreadsSupported() {
+        return VIRTUAL_EXECUTOR_FACTORY != null;
+    }
+
+    /**
+     * Shared executor of the process, it must not be shut down
+     */
+    public static ExecutorService shared() {
+        return SharedExecutor.INSTANCE;
+    }
+
+    /**
+     * Creates new executor, caller is responsible for its shutdown
+     * @return virtual thread per task executor or pool of daemon threads
+     */
+    public static ExecutorService newExecutor() {
+        if (VIRTUAL_EXECUTOR_FACTORY != null) {
+            try {
+                return (ExecutorService) VIRTUAL_EXECUTOR_FACTORY.invoke(null);
+            } catch (ReflectiveOperationException e) {
+                log.warn("Virtual thread executor is not created, pool of threads is used: {}", e.getMessage());
+            }
+        }
+
+        var pool = new ThreadPoolExecutor(MAX_THREADS, MAX_THREADS, 60, TimeUnit.SECONDS, new LinkedBlockingQueue<>(),
+                runnable -> {
+                    var thread = new Thread(runnable, "qa-executor-" + THREAD_COUNTER.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                });
+        pool.allowCoreThreadTimeOut(true);
+        return pool;
+    }
+
+    /**
+     * Performs tasks in parallel and waits for all of them. When any task fails, the rest are cancelled
+     * @param tasks tasks to perform
+     * @return results in order of the tasks
+     * @throws FanOutException with the cause of the first failed task
+     */
+    public static <T> List<T> fanOut(List<? extends Callable<? extends T>> tasks) {
+        return fanOut(tasks, null);
+    }
+
+    /**
+     * Performs tasks in parallel and waits for all of them. When any task fails or timeout expires,
+     * the rest are cancelled by interruption
+     * @param tasks tasks to perform
+     * @param timeout max time to wait for all tasks, null to wait without limit
+     * @return results in order of the tasks
+     * @throws FanOutException with the cause of the first failed task
+     */
+    public static <T> List<T> fanOut(List<? extends Callable<? extends T>> tasks, Duration timeout) {
+        var completion = new ExecutorCompletionService<T>(shared());
+        List<Future<T>> futures = new ArrayList<>(tasks.size());
+        long deadline = timeout == null ? 0 : System.nanoTime() + timeout.toNanos();
+        boolean completed = false;
+
+        try {
+            for (Callable<? extends T> task : tasks) {
+                futures.add(completion.submit(task::call));
+            }
+
+            for (int i = 0; i < futures.size(); i++) {
+                Future<T> done = timeout == null
+                        ? completion.take()
+                        : completion.poll(deadline - System.nanoTime(), TimeUnit.NANOSECONDS);
+                if (done == null) {
+                    throw new FanOutException("Tasks were not finished in " + timeout, null);
+                }
+                done.get();
+            }
+            completed = true;
+        } catch (ExecutionException e) {
+            throw new FanOutException("Task failed: " + e.getCause(), e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new FanOutException("Waiting for tasks was interrupted", e);
+        } finally {
+            if (!completed) {
+                futures.forEach(future -> future.cancel(true));
+            }
+        }
+
+        var results = new ArrayList<T>(futures.size());
+        for (Future<T> future : futures) {
+            results.add(resultOf(future));
+        }
+        return results;
+    }
+
+    private static <T> T resultOf(Future<T> future) {
+        try {
+            return future.get();
+        } catch (InterruptedException | ExecutionException e) {
+            throw new IllegalStateException("Result of finished task is not available", e);
+        }
+    }
+
+    private static Method findVirtualExecutorFactory() {
+        if (!Boolean.parseBoolean(System.getProperty("qa.executors.virtual", "true"))) {
+            return null;
+        }
+        try {
+            return Executors.class.getMethod("newVirtualThreadPerTaskExecutor");
+        } catch (NoSuchMethodException e) {
+            return null;
+        }
+    }
+
+    private static final class SharedExecutor {
+        private static final ExecutorService INSTANCE = newExecutor();
+    }
+}
@@ -0,0 +1,71 @@
+package platform.qa.concurrency;
+
+import org.junit.jupiter.api.Test;
+import platform.qa.concurrency.exception.FanOutException;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class QaExecutorsTest {
+
+    @Test
+    public void virtualThreadsAreUsedOnJava21Test() {
+        assertEquals(Runtime.version().feature() >= 21, QaExecutors.isVirtualThreadsSupported());
+    }
+
+    @Test
+    public void resultsAreReturnedInOrderOfTasksTest() {
+        List<Callable<Integer>> tasks = IntStream.range(0, 1_000)
+                .mapToObj(i -> (Callable<Integer>) () -> {
+                    Thread.sleep(10);
+                    return i;
+                })
+                .collect(Collectors.toList());
+
+        var results = QaExecutors.fanOut(tasks);
+
+        assertEquals(1_000, results.size());
+        assertEquals(999, results.get(999));
+    }
+
+    @Test
+    public void failedTaskCancelsOthersTest() throws InterruptedException {
+        var cancelled = new CountDownLatch(1);
+        List<Callable<String>> tasks = List.of(
+                () -> {
+                    try {
+                        Thread.sleep(10_000);
+                    } catch (InterruptedException e) {
+                        cancelled.countDown();
+                    }
+                    return "slow";
+                },
+                () -> {
+                    throw new IllegalStateException("failed");
+                });
+
+        var exception = assertThrows(FanOutException.class, () -> QaExecutors.fanOut(tasks));
+
+        assertTrue(exception.getCause() instanceof IllegalStateException);
+        assertTrue(cancelled.await(5, TimeUnit.SECONDS));
+    }
+
+    @Test
+    public void tasksAreCancelledAfterTimeoutTest() {
+        List<Callable<String>> tasks = List.of(() -> {
+            Thread.sleep(10_000);
+            return "slow";
+        });
+
+        assertThrows(FanOutException.class, () -> QaExecutors.fanOut(tasks, Duration.ofMillis(100)));
+    }
+}
@@ -16,39 +16,124 @@
 
 package platform.qa.database;
 
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+import lombok.EqualsAndHashCode;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import platform.qa.database.pool.PoolSettings;
 import platform.qa.entities.Db;
 import platform.qa.entities.User;
 
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import javax.sql.DataSource;
 import org.postgresql.ds.PGSimpleDataSource;
-import com.jcabi.aspects.Cacheable;
 
 
 /**
- * DataSource to get database connection
+ * DataSource to get database connection.
+ * Data sources are pooled and cached by database url, user and schema, so connections are reused
+ * by all tests of the run. Pools are closed on JVM shutdown or by {@link #closeAll()}.
+ * Pooling could be switched off by system property {@code qa.db.pool.enabled=false}.
  */
+@Log4j2
 public final class DataSourceInitializer {
+
+    private static final Map<PoolKey, DataSource> SOURCES = new ConcurrentHashMap<>();
+
+    static {
+        Runtime.getRuntime().addShutdownHook(new Thread(DataSourceInitializer::closeAll, "qa-db-pool-shutdown"));
+    }
+
     private DataSourceInitializer() {
         throw new IllegalStateException("This is utility class!");
     }
 
-    @Cacheable(forever = true)
     public static DataSource getSource(Db db, String schema) {
-        PGSimpleDataSource src = new PGSimpleDataSource();
-
-        src.setURL(db.getUrl().concat(schema));
-        src.setUser(db.getUser());
-        src.setPassword(db.getPassword());
-        return src;
+        return getSource(db, schema, PoolSettings.defaults());
     }
 
-    @Cacheable(forever = true)
     public static DataSource getSource(Db db, User user, String schema) {
+        return getSource(db, user, schema, PoolSettings.defaults());
+    }
+
+    /**
+     * Returns data source of the database user, settings are applied only when pool is created
+     * @param db database
+     * @param schema schema (database name) appended to url of the database
+     * @param settings pool settings
+     */
+    public static DataSource getSource(Db db, String schema, PoolSettings settings) {
+        return getSource(db.getUrl(), db.getUser(), db.getPassword(), schema, settings);
+    }
+
+    /**
+     * Returns data source of the user, settings are applied only when pool is created
+     * @param db database
+     * @param user user with login and password
+     * @param schema schema (database name) appended to url of the database
+     * @param settings pool settings
+     */
+    public static DataSource getSource(Db db, User user, String schema, PoolSettings settings) {
+        return getSource(db.getUrl(), user.getLogin(), user.getPassword(), schema, settings);
+    }
+
+    /**
+     * Closes all pools, next {@code getSource} call creates new pool
+     */
+    public static void closeAll() {
+        SOURCES.keySet().forEach(key -> {
+            var source = SOURCES.remove(key);
+            if (source instanceof HikariDataSource) {
+                ((HikariDataSource) source).close();
+            }
+        });
+    }
+
+    private static DataSource getSource(String url, String login, String password, String schema,
+                                        PoolSettings settings) {
+        return SOURCES.computeIfAbsent(new PoolKey(url, login, schema),
+                key -> Boolean.parseBoolean(System.getProperty("qa.db.pool.enabled", "true"))
+                        ? createPool(url.concat(schema), login, password, schema, settings)
+                        : createSimple(url.concat(schema), login, password));
+    }
+
+    private static DataSource createPool(String jdbcUrl, String login, String password, String schema,
+                                         PoolSettings settings) {
+        var config = new HikariConfig();
+        config.setPoolName("qa-" + login + "@" + schema);
+        config.setJdbcUrl(jdbcUrl);
+        config.setUsername(login);
+        config.setPassword(password);
+        config.setMaximumPoolSize(settings.getMaxPoolSize());
+        config.setMinimumIdle(settings.getMinIdle());
+        config.setIdleTimeout(settings.getIdleTimeout().toMillis());
+        config.setMaxLifetime(settings.getMaxLifetime().toMillis());
+        config.setConnectionTimeout(settings.getConnectionTimeout().toMillis());
+        config.setLeakDetectionThreshold(settings.getLeakDetectionThreshold().toMillis());
+        config.addDataSourceProperty("preparedStatementCacheQueries", settings.getStatementCacheSize());
+        // pool is created lazily, database could be unavailable when data source is requested
+        config.setInitializationFailTimeout(-1);
+
+        log.info("Створення пулу з'єднань {} розміром {}", config.getPoolName(), settings.getMaxPoolSize());
+        return new HikariDataSource(config);
+    }
+
+    private static DataSource createSimple(String jdbcUrl, String login, String password) {
         PGSimpleDataSource src = new PGSimpleDataSource();
 
-        src.setURL(db.getUrl().concat(schema));
-        src.setUser(user.getLogin());
-        src.setPassword(user.getPassword());
+        src.setURL(jdbcUrl);
+        src.setUser(login);
+        src.setPassword(password);
         return src;
     }
+
+    @EqualsAndHashCode
+    @RequiredArgsConstructor
+    private static final class PoolKey {
+        private final String url;
+        private final String login;
+        private final String schema;
+    }
 }
@@ -22,27 +22,46 @@ import static org.awaitility.Awaitility.await;
 import lombok.Setter;
 import lombok.SneakyThrows;
 import lombok.extern.log4j.Log4j2;
+import platform.qa.database.mapping.BeanRowMapper;
+import platform.qa.database.mapping.RowMapper;
+import platform.qa.database.notify.ChangeNotifier;
+import platform.qa.database.schema.SchemaSnapshot;
+import platform.qa.database.stream.CursorStream;
 import platform.qa.entities.WaitConfiguration;
 
-import java.lang.reflect.Field;
 import java.sql.SQLException;
+import java.time.Duration;
 import java.util.ArrayList;
-import java.util.Arrays;
 import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
 import javax.sql.DataSource;
 import org.apache.commons.lang3.BooleanUtils;
 import org.assertj.core.util.Lists;
+import org.awaitility.core.ThrowingRunnable;
 import com.jcabi.jdbc.JdbcSession;
+import com.jcabi.jdbc.Preparation;
 
 /**
  * Class to implement common approach to get data from database tables
  */
 @Log4j2
 public class TableInfoDb {
+    private static final int STREAM_FETCH_SIZE = Integer.getInteger("qa.db.fetchSize", 1000);
+    private static final Duration NOTIFIED_POLL_INTERVAL = Duration.ofMillis(1);
+
     protected final DataSource source;
+    private final Map<String, SchemaSnapshot> schemaSnapshots = new ConcurrentHashMap<>();
     @Setter
     private WaitConfiguration waitConfiguration;
+    /**
+     * Listener of changes of watched tables that wakes up waits, polling is used when it is not set
+     */
+    @Setter
+    private volatile ChangeNotifier changeNotifier;
 
     public TableInfoDb(DataSource source) {
         waitConfiguration = WaitConfiguration
@@ -57,20 +76,53 @@ public class TableInfoDb {
     protected String waitAndGetEntity(String query, boolean toBeEmpty) {
         final List<String> list = Lists.newArrayList();
 
-        await()
-                .pollInterval(waitConfiguration.getPoolIntervalTimeout(), waitConfiguration.getPoolIntervalTimeUnit())
-                .pollInSameThread()
-                .atMost(waitConfiguration.getWaitTimeout(), waitConfiguration.getWaitTimeUnit())
-                .untilAsserted(() -> {
-                    list.addAll(getValues(query));
+        waitUntilAsserted(() -> {
+            list.addAll(getValues(query));
 
-                    assertThat(toBeEmpty).as("Waiting condition is not reached:").isEqualTo(list.isEmpty());
-                });
+            assertThat(toBeEmpty).as("Waiting condition is not reached:").isEqualTo(list.isEmpty());
+        });
 
         return list.isEmpty() ? null : list.get(0);
 
     }
 
+    /**
+     * Checks the assertion until it passes. When {@link ChangeNotifier} is set, next check is performed
+     * as soon as watched table is changed, otherwise after poll interval.
+     */
+    private void waitUntilAsserted(ThrowingRunnable assertion) {
+        var notifier = changeNotifier;
+        if (notifier == null || !notifier.isActive()) {
+            await()
+                    .pollInterval(waitConfiguration.getPoolIntervalTimeout(), waitConfiguration.getPoolIntervalTimeUnit())
+                    .pollInSameThread()
+                    .atMost(waitConfiguration.getWaitTimeout(), waitConfiguration.getWaitTimeUnit())
+                    .untilAsserted(assertion);
+            return;
+        }
+
+        var pollInterval = Duration.of(waitConfiguration.getPoolIntervalTimeout(),
+                waitConfiguration.getPoolIntervalTimeUnit().toChronoUnit());
+        var waitTimeout = Duration.of(waitConfiguration.getWaitTimeout(),
+                waitConfiguration.getWaitTimeUnit().toChronoUnit());
+        long deadline = System.nanoTime() + waitTimeout.toNanos();
+        var seen = new AtomicLong(-1);
+        await()
+                .pollDelay(Duration.ZERO)
+                .pollInterval(NOTIFIED_POLL_INTERVAL)
+                .pollInSameThread()
+                .atMost(waitTimeout)
+                .untilAsserted(() -> {
+                    if (seen.get() >= 0) {
+                        var remaining = Duration.ofNanos(Math.max(0, deadline - System.nanoTime()));
+                        var timeout = remaining.compareTo(pollInterval) < 0 ? remaining : pollInterval;
+                        notifier.awaitChange(seen.get(), timeout);
+                    }
+                    seen.set(notifier.sequence());
+                    assertion.run();
+                });
+    }
+
     @SneakyThrows
     private List<String> getValues(String query) {
         List<String> list = Lists.newArrayList();
@@ -87,15 +139,11 @@ public class TableInfoDb {
     @SneakyThrows
     protected <T> List<T> waitAndGetEntity(String query, Class<T> clazz, boolean toBeEmpty) {
         final List<T> list = Lists.newArrayList();
-        await()
-                .pollInterval(waitConfiguration.getPoolIntervalTimeout(), waitConfiguration.getPoolIntervalTimeUnit())
-                .pollInSameThread()
-                .atMost(waitConfiguration.getWaitTimeout(), waitConfiguration.getWaitTimeUnit())
-                .untilAsserted(() -> {
-                    list.addAll(getValues(query, clazz));
+        waitUntilAsserted(() -> {
+            list.addAll(getValues(query, clazz));
 
-                    assertThat(toBeEmpty).as("Waiting condition is not reached:").isEqualTo(list.isEmpty());
-                });
+            assertThat(toBeEmpty).as("Waiting condition is not reached:").isEqualTo(list.isEmpty());
+        });
         return list;
     }
 
@@ -115,46 +163,28 @@ public class TableInfoDb {
 
     @SneakyThrows
     private <T> List<T> getValues(String query, Class<T> clazz) {
-        List<Field> fields = Arrays.asList(clazz.getDeclaredFields());
-        for (Field field : fields) {
-            field.setAccessible(true);
-        }
-        List<T> list = Lists.newArrayList();
         return new JdbcSession(source)
-                .sql(query).select((resultSet, statement) -> {
-                    while (resultSet.next()) {
-                        T dto = null;
-                        try {
-                            dto = clazz.getConstructor().newInstance();
-                        } catch (Exception e) {
-                            e.printStackTrace();
-                        }
-
-                        for (Field field : fields) {
-                            String name = field.getName();
-
-                            try {
-                                String value = resultSet.getString(name);
-
-                                if (field.getType().getName().equals("boolean")) {
-                                    field.set(dto, resultSet.getBoolean(name));
-                                } else {
-                                    field.set(dto, field.getType().getConstructor(String.class).newInstance(value));
-                                }
-
-                            } catch (Exception e) {
-                                e.printStackTrace();
-                            }
-
-                        }
-
-                        list.add(dto);
-
-                    }
-                    return list;
-                });
+                .sql(query)
+                .select((resultSet, statement) -> BeanRowMapper.of(clazz).mapAll(resultSet));
+    }
 
+    /**
+     * Streams rows of the query through server-side cursor, so rows are not collected into memory.
+     * Stream holds database connection and should be closed, e.g. by try-with-resources.
+     * @param query select query
+     * @param mapper maps current row of the result set
+     * @return stream of mapped rows
+     */
+    public <T> Stream<T> stream(String query, RowMapper<T> mapper) throws SQLException {
+        return CursorStream.open(source, query, STREAM_FETCH_SIZE, metaData -> mapper);
+    }
 
+    /**
+     * Streams rows of the query mapped to objects of the class by names of its fields
+     * @see #stream(String, RowMapper)
+     */
+    public <T> Stream<T> stream(String query, Class<T> clazz) throws SQLException {
+        return CursorStream.open(source, query, STREAM_FETCH_SIZE, BeanRowMapper.of(clazz)::bind);
     }
 
     public List<String> getAllTablesFromRegistryScheme() throws SQLException {
@@ -228,51 +258,115 @@ public class TableInfoDb {
                 .execute();
     }
 
+    /**
+     * Gets columns with data types of the tables by single query
+     * @param tableNames names of the tables
+     * @return columns of each table, tables that do not exist are mapped to empty map
+     */
     public HashMap<String, HashMap<String, String>> getAllColumnsForSpecificTables(List<String> tableNames) throws SQLException {
         log.info("Перевірка відповідності створених колонок");
-        String query = "SELECT column_name , data_type FROM information_schema.columns " +
-                "WHERE table_name = '%s'";
+        String query = "SELECT table_name, column_name, data_type FROM information_schema.columns " +
+                "WHERE table_name = ANY(?)";
 
         HashMap<String, HashMap<String, String>> map = new HashMap<>();
-        for (var table : tableNames) {
-            var columns = new JdbcSession(source)
-                    .sql(String.format(query, table))
-                    .select((resultSet, statement) -> {
-                                var actualMap = new HashMap<String, String>();
-                                while (resultSet.next()) {
-                                    actualMap.put(resultSet.getString(1), resultSet.getString(2));
-                                }
-                                return actualMap;
-                            }
-                    );
-            map.put(table, columns);
+        tableNames.forEach(table -> map.put(table, new HashMap<>()));
+        if (tableNames.isEmpty()) {
+            return map;
         }
-        return map;
+        return new JdbcSession(source)
+                .sql(query)
+                .prepare(textArray(tableNames))
+                .select((resultSet, statement) -> {
+                            while (resultSet.next()) {
+                                map.get(resultSet.getString(1)).put(resultSet.getString(2), resultSet.getString(3));
+                            }
+                            return map;
+                        }
+                );
     }
 
+    /**
+     * Gets check constraints of the tables by single query
+     * @param tableNames names of the tables
+     * @return check clauses of each table, tables without constraints are mapped to empty list
+     */
     public HashMap<String, List<String>> getAllConstraintsForSpecificTables(List<String> tableNames) throws SQLException {
         log.info("Перевірка відповідності створених обмежень");
-        String query = "select check_clause from information_schema.table_constraints c " +
+        String query = "select c.table_name, check_clause from information_schema.table_constraints c " +
                 "join information_schema.check_constraints cc on c.constraint_name = cc.constraint_name" +
-                " where c.constraint_type = 'CHECK' and c.table_name = '%s'";
+                " where c.constraint_type = 'CHECK' and c.table_name = ANY(?)";
 
         HashMap<String, List<String>> map = new HashMap<>();
+        tableNames.forEach(table -> map.put(table, new ArrayList<>()));
+        if (tableNames.isEmpty()) {
+            return map;
+        }
+        return new JdbcSession(source)
+                .sql(query)
+                .prepare(textArray(tableNames))
+                .select((resultSet, statement) -> {
+                    while (resultSet.next()) {
+                        map.get(resultSet.getString(1)).add(resultSet.getString(2));
+                    }
+                    return map;
+                });
+    }
 
-        for (String table : tableNames) {
+    /**
+     * Gets snapshot of columns and check constraints of all tables of the schema by two queries.
+     * Snapshot is cached until {@link #invalidateSchemaSnapshot(String)} is called.
+     * @param schemaName name of the schema, e.g. registry
+     * @return snapshot that could be compared with snapshot taken later
+     */
+    public SchemaSnapshot getSchemaSnapshot(String schemaName) {
+        return schemaSnapshots.computeIfAbsent(schemaName, this::takeSchemaSnapshot);
+    }
 
-            var constraints = new JdbcSession(source)
-                    .sql(String.format(query, table))
-                    .select((resultSet, statement) -> {
-                        var actualList = new ArrayList<String>();
-                        while (resultSet.next()) {
-                            actualList.add(resultSet.getString(1));
-                        }
-                        return actualList;
-                    });
-            map.put(table, constraints);
-        }
-        return map;
+    /**
+     * Drops cached snapshot of the schema so next {@link #getSchemaSnapshot(String)} reads actual metadata
+     */
+    public void invalidateSchemaSnapshot(String schemaName) {
+        schemaSnapshots.remove(schemaName);
+    }
+
+    @SneakyThrows
+    private SchemaSnapshot takeSchemaSnapshot(String schemaName) {
+        log.info("Отримання структури схеми " + schemaName);
+        String columnsQuery = "SELECT table_name, column_name, data_type FROM information_schema.columns " +
+                "WHERE table_schema = ?";
+        String constraintsQuery = "select c.table_name, check_clause from information_schema.table_constraints c " +
+                "join information_schema.check_constraints cc on c.constraint_schema = cc.constraint_schema" +
+                " and c.constraint_name = cc.constraint_name" +
+                " where c.constraint_type = 'CHECK' and c.table_schema = ?";
+
+        Map<String, Map<String, String>> columns = new JdbcSession(source)
+                .sql(columnsQuery)
+                .set(schemaName)
+                .select((resultSet, statement) -> {
+                    var tables = new HashMap<String, Map<String, String>>();
+                    while (resultSet.next()) {
+                        tables.computeIfAbsent(resultSet.getString(1), table -> new HashMap<>())
+                                .put(resultSet.getString(2), resultSet.getString(3));
+                    }
+                    return tables;
+                });
+        Map<String, List<String>> constraints = new JdbcSession(source)
+                .sql(constraintsQuery)
+                .set(schemaName)
+                .select((resultSet, statement) -> {
+                    var tables = new HashMap<String, List<String>>();
+                    while (resultSet.next()) {
+                        tables.computeIfAbsent(resultSet.getString(1), table -> new ArrayList<>())
+                                .add(resultSet.getString(2));
+                    }
+                    return tables;
+                });
+        return new SchemaSnapshot(schemaName, columns, constraints);
+    }
 
+    private static Preparation textArray(List<String> values) {
+        return statement -> statement.setArray(1,
+                statement.getConnection().createArrayOf("text", values.toArray(new String[0])));
     }
 
 
@@ -0,0 +1,179 @@
+/*
+ * Copyright 2022 EPAM Systems.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package platform.qa.database.mapping;
+
+import platform.qa.database.exception.RowMappingException;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Maps rows to objects of the class by names of its fields, column names are matched ignoring case.
+ * Constructor and field setters are resolved once per class as {@link MethodHandle}s,
+ * column indexes are resolved once per result set, values are read by typed getters.
+ * Fields without matching column and fields of unsupported types keep default value.
+ * <p>
+ * Example:
+ * <code>
+ *     new JdbcSession(source)
+ *             .sql(query)
+ *             .select((resultSet, statement) -> BeanRowMapper.of(Person.class).mapAll(resultSet));
+ * </code>
+ * @param <T> type of the objects
+ */
+public final class BeanRowMapper<T> {
+
+    private static final ClassValue<BeanRowMapper<?>> MAPPERS = new ClassValue<>() {
+        @Override
+        protected BeanRowMapper<?> computeValue(Class<?> type) {
+            return new BeanRowMapper<>(type);
+        }
+    };
+
+    private final Class<T> type;
+    private final MethodHandle constructor;
+    private final List<Property> properties = new ArrayList<>();
+
+    private BeanRowMapper(Class<T> type) {
+        this.type = type;
+        var lookup = MethodHandles.lookup();
+        try {
+            var declared = type.getDeclaredConstructor();
+            declared.setAccessible(true);
+            this.constructor = lookup.unreflectConstructor(declared).asType(MethodType.methodType(Object.class));
+        } catch (ReflectiveOperationException | RuntimeException e) {
+            throw new RowMappingException("Class " + type.getName() + " has no constructor without arguments", e);
+        }
+
+        for (Field field : type.getDeclaredFields()) {
+            if (Modifier.isStatic(field.getModifiers()) || field.isSynthetic()) {
+                continue;
+            }
+
+            var reader = ColumnReaders.forType(field.getType());
+            if (reader == null) {
+                continue;
+            }
+            try {
+                field.setAccessible(true);
+                var setter = lookup.unreflectSetter(field)
+                        .asType(MethodType.methodType(void.class, Object.class, Object.class));
+                properties.add(new Property(field.getName(), field.getType().isPrimitive(), setter, reader));
+            } catch (ReflectiveOperationException | RuntimeException e) {
+                throw new RowMappingException("Field " + type.getName() + "." + field.getName()
+                        + " could not be set", e);
+            }
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    public static <T> BeanRowMapper<T> of(Class<T> type) {
+        return (BeanRowMapper<T>) MAPPERS.get(type);
+    }
+
+    /**
+     * Returns mapper with column indexes resolved for the result set
+     * @param metaData metadata of the result set
+     */
+    public RowMapper<T> bind(ResultSetMetaData metaData) throws SQLException {
+        var columns = new HashMap<String, Integer>();
+        for (int i = metaData.getColumnCount(); i >= 1; i--) {
+            columns.put(metaData.getColumnLabel(i).toLowerCase(Locale.ROOT), i);
+        }
+
+        var bound = new ArrayList<Property>();
+        var indexes = new ArrayList<Integer>();
+        for (Property property : properties) {
+            var index = columns.get(property.name.toLowerCase(Locale.ROOT));
+            if (index != null) {
+                bound.add(property);
+                indexes.add(index);
+            }
+        }
+
+        var boundProperties = bound.toArray(new Property[0]);
+        var boundIndexes = indexes.stream().mapToInt(Integer::intValue).toArray();
+        return resultSet -> mapRow(resultSet, boundProperties, boundIndexes);
+    }
+
+    /**
+     * Maps all remaining rows of the result set
+     */
+    public List<T> mapAll(ResultSet resultSet) throws SQLException {
+        var mapper = bind(resultSet.getMetaData());
+        var result = new ArrayList<T>();
+        while (resultSet.next()) {
+            result.add(mapper.mapRow(resultSet));
+        }
+        return result;
+    }
+
+    private T mapRow(ResultSet resultSet, Property[] boundProperties, int[] boundIndexes) throws SQLException {
+        Object row;
+        try {
+            row = (Object) constructor.invokeExact();
+        } catch (Throwable e) {
+            throw new RowMappingException("Instance of " + type.getName() + " could not be created", e);
+        }
+
+        for (int i = 0; i < boundProperties.length; i++) {
+            var property = boundProperties[i];
+            Object value;
+            try {
+                value = property.reader.read(resultSet, boundIndexes[i]);
+            } catch (IllegalArgumentException e) {
+                throw new RowMappingException("Column " + property.name + " could not be mapped to "
+                        + type.getName(), e);
+            }
+            if (value == null && property.primitive) {
+                continue;
+            }
+
+            try {
+                property.setter.invokeExact(row, value);
+            } catch (Throwable e) {
+                throw new RowMappingException("Column " + property.name + " could not be mapped to "
+                        + type.getName(), e);
+            }
+        }
+        return type.cast(row);
+    }
+
+    private static final class Property {
+        private final String name;
+        private final boolean primitive;
+        private final MethodHandle setter;
+        private final ColumnReaders.ColumnReader reader;
+
+        private Property(String name, boolean primitive, MethodHandle setter, ColumnReaders.ColumnReader reader) {
+            this.name = name;
+            this.primitive = primitive;
+            this.setter = setter;
+            this.reader = reader;
+        }
+    }
+}
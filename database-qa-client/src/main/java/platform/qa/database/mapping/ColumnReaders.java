@@ -0,0 +1,127 @@
+/*
+ * Copyright 2022 EPAM Systems.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package platform.qa.database.mapping;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.OffsetDateTime;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Readers of column values by field type, values are read by typed getters of {@link ResultSet}
+ * without conversion through string
+ */
+final class ColumnReaders {
+
+    @FunctionalInterface
+    interface ColumnReader {
+        Object read(ResultSet resultSet, int column) throws SQLException;
+    }
+
+    private static final Map<Class<?>, ColumnReader> READERS = new HashMap<>();
+
+    static {
+        READERS.put(String.class, ResultSet::getString);
+        READERS.put(boolean.class, (rs, i) -> nullable(rs, rs.getBoolean(i)));
+        READERS.put(Boolean.class, READERS.get(boolean.class));
+        READERS.put(short.class, (rs, i) -> nullable(rs, rs.getShort(i)));
+        READERS.put(Short.class, READERS.get(short.class));
+        READERS.put(int.class, (rs, i) -> nullable(rs, rs.getInt(i)));
+        READERS.put(Integer.class, READERS.get(int.class));
+        READERS.put(long.class, (rs, i) -> nullable(rs, rs.getLong(i)));
+        READERS.put(Long.class, READERS.get(long.class));
+        READERS.put(float.class, (rs, i) -> nullable(rs, rs.getFloat(i)));
+        READERS.put(Float.class, READERS.get(float.class));
+        READERS.put(double.class, (rs, i) -> nullable(rs, rs.getDouble(i)));
+        READERS.put(Double.class, READERS.get(double.class));
+        READERS.put(BigDecimal.class, ResultSet::getBigDecimal);
+        READERS.put(BigInteger.class, (rs, i) -> {
+            var value = rs.getBigDecimal(i);
+            return value == null ? null : value.toBigInteger();
+        });
+        READERS.put(UUID.class, (rs, i) -> rs.getObject(i, UUID.class));
+        READERS.put(LocalDate.class, (rs, i) -> rs.getObject(i, LocalDate.class));
+        READERS.put(LocalTime.class, (rs, i) -> rs.getObject(i, LocalTime.class));
+        READERS.put(LocalDateTime.class, (rs, i) -> rs.getObject(i, LocalDateTime.class));
+        READERS.put(OffsetDateTime.class, (rs, i) -> rs.getObject(i, OffsetDateTime.class));
+        READERS.put(Instant.class, (rs, i) -> {
+            var value = rs.getTimestamp(i);
+            return value == null ? null : value.toInstant();
+        });
+        READERS.put(Timestamp.class, ResultSet::getTimestamp);
+        READERS.put(java.sql.Date.class, ResultSet::getDate);
+        READERS.put(byte[].class, ResultSet::getBytes);
+    }
+
+    private ColumnReaders() {
+        throw new IllegalStateException("This is utility class!");
+    }
+
+    /**
+     * Returns reader of the field type. Enums are read by name, other types are created
+     * by constructor with string argument.
+     * @return reader or {@code null} if values of the type could not be read
+     */
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    static ColumnReader forType(Class<?> type) {
+        var reader = READERS.get(type);
+        if (reader != null) {
+            return reader;
+        }
+
+        if (type.isEnum()) {
+            return (rs, i) -> {
+                var value = rs.getString(i);
+                return value == null ? null : Enum.valueOf((Class<Enum>) type, value);
+            };
+        }
+
+        MethodHandle constructor;
+        try {
+            constructor = MethodHandles.publicLookup()
+                    .findConstructor(type, MethodType.methodType(void.class, String.class))
+                    .asType(MethodType.methodType(Object.class, String.class));
+        } catch (ReflectiveOperationException e) {
+            return null;
+        }
+        return (rs, i) -> {
+            var value = rs.getString(i);
+            try {
+                return value == null ? null : (Object) constructor.invokeExact(value);
+            } catch (Throwable e) {
+                throw new IllegalArgumentException("Value '" + value + "' could not be converted to "
+                        + type.getName(), e);
+            }
+        };
+    }
+
+    private static Object nullable(ResultSet resultSet, Object value) throws SQLException {
+        return resultSet.wasNull() ? null : value;
+    }
+}
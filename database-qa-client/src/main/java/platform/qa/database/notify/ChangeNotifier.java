@@ -0,0 +1,196 @@
+/*
+ * Copyright 2022 EPAM Systems.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package platform.qa.database.notify;
+
+import lombok.extern.log4j.Log4j2;
+import org.postgresql.PGConnection;
+import org.postgresql.PGNotification;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Set;
+import java.util.stream.Collectors;
+import javax.sql.DataSource;
+
+/**
+ * Listens for PostgreSQL notifications about changes of watched tables, so waits could wake up
+ * right after the change is committed instead of sleeping the whole poll interval.
+ * Notifications are sent by statement-level trigger installed with {@link #installTrigger(DataSource, String)}.
+ * <p>
+ * Listener holds dedicated connection and should be closed. When connection is lost waits
+ * fall back to polling.
+ * <code>
+ *     try (ChangeNotifier notifier = ChangeNotifier.listen(source, "registry.person")) {
+ *         tableInfoDb.setChangeNotifier(notifier);
+ *         ...
+ *     }
+ * </code>
+ */
+@Log4j2
+public class ChangeNotifier implements AutoCloseable {
+
+    public static final String CHANNEL = "qa_table_change";
+    private static final String FUNCTION = "qa_notify_table_change";
+    private static final int RECEIVE_TIMEOUT_MILLIS = 500;
+
+    private final Connection connection;
+    private final PGConnection pgConnection;
+    private final Set<String> tables;
+    private final Thread receiver;
+    private long sequence;
+    private volatile boolean active = true;
+
+    private ChangeNotifier(Connection connection, Set<String> tables) throws SQLException {
+        this.connection = connection;
+        this.pgConnection = connection.unwrap(PGConnection.class);
+        this.tables = tables;
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("LISTEN " + CHANNEL);
+        }
+        receiver = new Thread(this::receive, "qa-db-change-notifier");
+        receiver.setDaemon(true);
+        receiver.start();
+    }
+
+    /**
+     * Subscribes for changes of the tables
+     * @param source data source, one connection is held until notifier is closed
+     * @param tables qualified names of watched tables, e.g. registry.person; all tables when empty
+     */
+    public static ChangeNotifier listen(DataSource source, String... tables) throws SQLException {
+        Connection connection = source.getConnection();
+        try {
+            connection.setAutoCommit(true);
+            return new ChangeNotifier(connection, Arrays.stream(tables)
+                    .map(String::toLowerCase)
+                    .collect(Collectors.toUnmodifiableSet()));
+        } catch (SQLException | RuntimeException e) {
+            try {
+                connection.close();
+            } catch (SQLException closeException) {
+                e.addSuppressed(closeException);
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * Creates trigger that notifies {@link #CHANNEL} after each statement changing rows of the table.
+     * Notification is delivered on commit of the changing transaction.
+     * @param source data source of the user allowed to create triggers on the table
+     * @param table qualified table name, e.g. registry.person
+     */
+    public static void installTrigger(DataSource source, String table) throws SQLException {
+        log.info("Створення тригера сповіщень для таблиці " + table);
+        try (Connection connection = source.getConnection();
+             Statement statement = connection.createStatement()) {
+            statement.execute("CREATE OR REPLACE FUNCTION " + FUNCTION + "() RETURNS trigger AS $$\n"
+                    + "BEGIN\n"
+                    + "    PERFORM pg_notify('" + CHANNEL + "', TG_TABLE_SCHEMA || '.' || TG_TABLE_NAME);\n"
+                    + "    RETURN NULL;\n"
+                    + "END\n"
+                    + "$$ LANGUAGE plpgsql");
+            statement.execute("DROP TRIGGER IF EXISTS " + FUNCTION + " ON " + table);
+            statement.execute("CREATE TRIGGER " + FUNCTION + " AFTER INSERT OR UPDATE OR DELETE ON " + table
+                    + " FOR EACH STATEMENT EXECUTE PROCEDURE " + FUNCTION + "()");
+        }
+    }
+
+    public static void dropTrigger(DataSource source, String table) throws SQLException {
+        log.info("Видалення тригера сповіщень для таблиці " + table);
+        try (Connection connection = source.getConnection();
+             Statement statement = connection.createStatement()) {
+            statement.execute("DROP TRIGGER IF EXISTS " + FUNCTION + " ON " + table);
+        }
+    }
+
+    public boolean isActive() {
+        return active;
+    }
+
+    /**
+     * @return counter of received notifications to be passed to {@link #awaitChange(long, Duration)}
+     */
+    public synchronized long sequence() {
+        return sequence;
+    }
+
+    /**
+     * Waits for notification received after the sequence was read. Returns after the timeout
+     * when there is no notification or listener is not active, so caller keeps polling.
+     * @param seen value of {@link #sequence()} read before the checked query
+     * @param timeout maximum time to wait
+     * @return current sequence
+     */
+    public synchronized long awaitChange(long seen, Duration timeout) throws InterruptedException {
+        long deadline = System.nanoTime() + timeout.toNanos();
+        long remaining = timeout.toNanos();
+        while (sequence == seen && remaining > 0) {
+            long millis = Math.max(1, remaining / 1_000_000);
+            wait(millis);
+            remaining = deadline - System.nanoTime();
+        }
+        return sequence;
+    }
+
+    private void receive() {
+        while (active) {
+            try {
+                PGNotification[] notifications = pgConnection.getNotifications(RECEIVE_TIMEOUT_MILLIS);
+                if (notifications != null && Arrays.stream(notifications).anyMatch(this::isWatched)) {
+                    signal();
+                }
+            } catch (SQLException e) {
+                if (active) {
+                    log.warn("Отримання сповіщень зупинено, очікування продовжиться опитуванням", e);
+                    active = false;
+                }
+            }
+        }
+    }
+
+    private boolean isWatched(PGNotification notification) {
+        return CHANNEL.equals(notification.getName())
+                && (tables.isEmpty() || tables.contains(notification.getParameter().toLowerCase()));
+    }
+
+    private synchronized void signal() {
+        sequence++;
+        notifyAll();
+    }
+
+    @Override
+    public void close() throws SQLException {
+        active = false;
+        try {
+            receiver.join(RECEIVE_TIMEOUT_MILLIS * 2L);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        // pooled connection keeps subscription after it is returned to the pool
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("UNLISTEN " + CHANNEL);
+        } catch (SQLException e) {
+            log.warn("Не вдалося скасувати підписку на сповіщення", e);
+        } finally {
+            connection.close();
+        }
+    }
+}
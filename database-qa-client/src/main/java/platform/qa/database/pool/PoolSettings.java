@@ -0,0 +1,66 @@
+/*
+ * Copyright 2022 EPAM Systems.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package platform.qa.database.pool;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.Duration;
+
+/**
+ * Settings of connection pool created by {@link platform.qa.database.DataSourceInitializer}.
+ * Size of the pool could be set by system property {@code qa.db.pool.maxSize}.
+ */
+@Getter
+@Builder(toBuilder = true)
+public class PoolSettings {
+
+    @Builder.Default
+    private int maxPoolSize = Integer.getInteger("qa.db.pool.maxSize", 5);
+
+    @Builder.Default
+    private int minIdle = 0;
+
+    /**
+     * Idle connections above {@link #minIdle} are closed after specified duration
+     */
+    @Builder.Default
+    private Duration idleTimeout = Duration.ofMinutes(1);
+
+    @Builder.Default
+    private Duration maxLifetime = Duration.ofMinutes(30);
+
+    @Builder.Default
+    private Duration connectionTimeout = Duration.ofSeconds(30);
+
+    /**
+     * Connection not returned to the pool during specified duration is logged as possible leak,
+     * {@link Duration#ZERO} disables detection
+     */
+    @Builder.Default
+    private Duration leakDetectionThreshold = Duration.ofMinutes(1);
+
+    /**
+     * Count of prepared statements cached by each connection
+     */
+    @Builder.Default
+    private int statementCacheSize = 256;
+
+    public static PoolSettings defaults() {
+        return builder().build();
+    }
+}
@@ -0,0 +1,52 @@
+/*
+ * Copyright 2022 EPAM Systems.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package platform.qa.database.schema;
+
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * Differences between two {@link SchemaSnapshot}s
+ */
+@Getter
+public class SchemaDiff {
+
+    private final List<String> addedTables;
+    private final List<String> removedTables;
+
+    /**
+     * Changes of columns and constraints of tables present in both snapshots
+     */
+    private final List<String> changes;
+
+    SchemaDiff(List<String> addedTables, List<String> removedTables, List<String> changes) {
+        this.addedTables = List.copyOf(addedTables);
+        this.removedTables = List.copyOf(removedTables);
+        this.changes = List.copyOf(changes);
+    }
+
+    public boolean isEmpty() {
+        return addedTables.isEmpty() && removedTables.isEmpty() && changes.isEmpty();
+    }
+
+    @Override
+    public String toString() {
+        return "SchemaDiff(addedTables=" + addedTables + ", removedTables=" + removedTables
+                + ", changes=" + changes + ")";
+    }
+}
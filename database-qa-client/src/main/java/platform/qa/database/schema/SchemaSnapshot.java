@@ -0,0 +1,113 @@
+/*
+ * Copyright 2022 EPAM Systems.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package platform.qa.database.schema;
+
+import lombok.Getter;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeMap;
+import java.util.TreeSet;
+
+/**
+ * Immutable snapshot of schema tables: columns with data types and check constraints of each table
+ */
+@Getter
+public class SchemaSnapshot {
+
+    private final String schema;
+    private final Map<String, Map<String, String>> columns;
+    private final Map<String, List<String>> constraints;
+
+    public SchemaSnapshot(String schema, Map<String, Map<String, String>> columns,
+                          Map<String, List<String>> constraints) {
+        this.schema = schema;
+        var columnsCopy = new TreeMap<String, Map<String, String>>();
+        columns.forEach((table, tableColumns) -> columnsCopy.put(table,
+                Collections.unmodifiableMap(new TreeMap<>(tableColumns))));
+        this.columns = Collections.unmodifiableMap(columnsCopy);
+
+        var constraintsCopy = new TreeMap<String, List<String>>();
+        constraints.forEach((table, tableConstraints) -> {
+            var sorted = new ArrayList<>(tableConstraints);
+            Collections.sort(sorted);
+            constraintsCopy.put(table, Collections.unmodifiableList(sorted));
+        });
+        this.constraints = Collections.unmodifiableMap(constraintsCopy);
+    }
+
+    public List<String> getTables() {
+        return List.copyOf(columns.keySet());
+    }
+
+    /**
+     * Compares the snapshot with other snapshot of the schema
+     * @param other snapshot taken later, e.g. after deployment of registry regulations
+     * @return differences where "added" means present only in other snapshot
+     */
+    public SchemaDiff diff(SchemaSnapshot other) {
+        var tables = new TreeSet<>(columns.keySet());
+        tables.addAll(other.columns.keySet());
+
+        var addedTables = new ArrayList<String>();
+        var removedTables = new ArrayList<String>();
+        var changes = new ArrayList<String>();
+        for (String table : tables) {
+            var before = columns.get(table);
+            var after = other.columns.get(table);
+            if (before == null) {
+                addedTables.add(table);
+            } else if (after == null) {
+                removedTables.add(table);
+            } else {
+                diffColumns(table, before, after, changes);
+                diffConstraints(table, constraints.getOrDefault(table, List.of()),
+                        other.constraints.getOrDefault(table, List.of()), changes);
+            }
+        }
+        return new SchemaDiff(addedTables, removedTables, changes);
+    }
+
+    private static void diffColumns(String table, Map<String, String> before, Map<String, String> after,
+                                    List<String> changes) {
+        var names = new TreeSet<>(before.keySet());
+        names.addAll(after.keySet());
+        for (String name : names) {
+            var typeBefore = before.get(name);
+            var typeAfter = after.get(name);
+            if (typeBefore == null) {
+                changes.add(table + "." + name + ": column added (" + typeAfter + ")");
+            } else if (typeAfter == null) {
+                changes.add(table + "." + name + ": column removed (" + typeBefore + ")");
+            } else if (!Objects.equals(typeBefore, typeAfter)) {
+                changes.add(table + "." + name + ": type changed " + typeBefore + " -> " + typeAfter);
+            }
+        }
+    }
+
+    private static void diffConstraints(String table, List<String> before, List<String> after, List<String> changes) {
+        after.stream()
+                .filter(constraint -> !before.contains(constraint))
+                .forEach(constraint -> changes.add(table + ": constraint added " + constraint));
+        before.stream()
+                .filter(constraint -> !after.contains(constraint))
+                .forEach(constraint -> changes.add(table + ": constraint removed " + constraint));
+    }
+}
@@ -0,0 +1,130 @@
+/*
+ * Copyright 2022 EPAM Systems.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package platform.qa.database.stream;
+
+import lombok.SneakyThrows;
+import platform.qa.database.mapping.RowMapper;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+import javax.sql.DataSource;
+
+/**
+ * Stream of query rows read through server-side cursor. PostgreSQL driver uses cursor only when autocommit
+ * is disabled and fetch size is set, so only one fetch of rows is held in memory.
+ * Stream holds connection until it is closed.
+ */
+public final class CursorStream {
+
+    @FunctionalInterface
+    public interface RowMapperFactory<T> {
+        RowMapper<T> create(ResultSetMetaData metaData) throws SQLException;
+    }
+
+    private CursorStream() {
+        throw new IllegalStateException("This is utility class!");
+    }
+
+    /**
+     * Executes query and returns stream of mapped rows
+     * @param source data source
+     * @param query select query
+     * @param fetchSize count of rows fetched from the server at once
+     * @param mapperFactory creates row mapper for metadata of the result set
+     * @return stream of rows, should be closed to release connection
+     */
+    public static <T> Stream<T> open(DataSource source, String query, int fetchSize,
+                                     RowMapperFactory<T> mapperFactory) throws SQLException {
+        Connection connection = source.getConnection();
+        boolean autoCommit = true;
+        Statement statement = null;
+        ResultSet resultSet = null;
+        try {
+            autoCommit = connection.getAutoCommit();
+            connection.setAutoCommit(false);
+            statement = connection.createStatement(ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+            statement.setFetchSize(fetchSize);
+            resultSet = statement.executeQuery(query);
+            var mapper = mapperFactory.create(resultSet.getMetaData());
+
+            var resources = new Resources(connection, autoCommit, statement, resultSet);
+            return StreamSupport.stream(new RowSpliterator<>(resultSet, mapper), false)
+                    .onClose(resources::close);
+        } catch (SQLException | RuntimeException e) {
+            try {
+                new Resources(connection, autoCommit, statement, resultSet).close();
+            } catch (Exception closeFailure) {
+                e.addSuppressed(closeFailure);
+            }
+            throw e;
+        }
+    }
+
+    private static final class RowSpliterator<T> extends Spliterators.AbstractSpliterator<T> {
+        private final ResultSet resultSet;
+        private final RowMapper<T> mapper;
+
+        private RowSpliterator(ResultSet resultSet, RowMapper<T> mapper) {
+            super(Long.MAX_VALUE, Spliterator.ORDERED | Spliterator.NONNULL);
+            this.resultSet = resultSet;
+            this.mapper = mapper;
+        }
+
+        @Override
+        @SneakyThrows
+        public boolean tryAdvance(Consumer<? super T> action) {
+            if (!resultSet.next()) {
+                return false;
+            }
+            action.accept(mapper.mapRow(resultSet));
+            return true;
+        }
+    }
+
+    private static final class Resources {
+        private final Connection connection;
+        private final boolean autoCommit;
+        private final Statement statement;
+        private final ResultSet resultSet;
+
+        private Resources(Connection connection, boolean autoCommit, Statement statement, ResultSet resultSet) {
+            this.connection = connection;
+            this.autoCommit = autoCommit;
+            this.statement = statement;
+            this.resultSet = resultSet;
+        }
+
+        /**
+         * Closes result set, statement and connection, cursor is read only so transaction is rolled back
+         */
+        @SneakyThrows
+        private void close() {
+            try (connection; statement; resultSet) {
+                connection.rollback();
+                connection.setAutoCommit(autoCommit);
+            }
+        }
+    }
+}
@@ -0,0 +1,90 @@
+package platform.qa.database;
+
+import org.junit.jupiter.api.Test;
+import platform.qa.database.exception.RowMappingException;
+import platform.qa.database.mapping.BeanRowMapper;
+
+import java.math.BigDecimal;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public class BeanRowMapperTest {
+    static final UUID ID = UUID.fromString("0d756563-d6a3-4c5e-9c47-7c3f1e3b4a12");
+
+    public static class Person {
+        private UUID id;
+        private String fullName;
+        private int age;
+        private Long rating;
+        private boolean active;
+        private BigDecimal salary;
+        private LocalDate birthday;
+        private String notSelected;
+    }
+
+    public static class Invalid {
+        private Integer age;
+    }
+
+    @Test
+    public void columnsAreMappedByTypedGettersTest() throws SQLException {
+        ResultSet resultSet = mockResultSet("ID", "fullname", "age", "rating", "active", "salary", "birthday");
+        when(resultSet.getObject(1, UUID.class)).thenReturn(ID);
+        when(resultSet.getString(2)).thenReturn("Іван Петренко");
+        when(resultSet.getInt(3)).thenReturn(42);
+        when(resultSet.getLong(4)).thenReturn(0L);
+        when(resultSet.wasNull()).thenReturn(false, true, false);
+        when(resultSet.getBoolean(5)).thenReturn(true);
+        when(resultSet.getBigDecimal(6)).thenReturn(new BigDecimal("1000.50"));
+        when(resultSet.getObject(7, LocalDate.class)).thenReturn(LocalDate.of(1990, 1, 31));
+
+        var persons = BeanRowMapper.of(Person.class).mapAll(resultSet);
+
+        assertEquals(1, persons.size());
+        var person = persons.get(0);
+        assertEquals(ID, person.id);
+        assertEquals("Іван Петренко", person.fullName);
+        assertEquals(42, person.age);
+        assertNull(person.rating);
+        assertEquals(new BigDecimal("1000.50"), person.salary);
+        assertEquals(LocalDate.of(1990, 1, 31), person.birthday);
+        assertNull(person.notSelected);
+        assertTrue(person.active);
+    }
+
+    @Test
+    public void conversionErrorIsReportedTest() throws SQLException {
+        ResultSet resultSet = mockResultSet("age");
+        when(resultSet.getInt(1)).thenThrow(new SQLException("Bad value for type int"));
+
+        assertThatThrownBy(() -> BeanRowMapper.of(Invalid.class).mapAll(resultSet))
+                .isInstanceOf(SQLException.class);
+    }
+
+    @Test
+    public void classWithoutDefaultConstructorIsRejectedTest() {
+        assertThatThrownBy(() -> BeanRowMapper.of(Integer.class)).isInstanceOf(RowMappingException.class);
+    }
+
+    private static ResultSet mockResultSet(String... columns) throws SQLException {
+        ResultSet resultSet = mock(ResultSet.class);
+        ResultSetMetaData metaData = mock(ResultSetMetaData.class);
+        when(metaData.getColumnCount()).thenReturn(columns.length);
+        for (int i = 0; i < columns.length; i++) {
+            when(metaData.getColumnLabel(i + 1)).thenReturn(columns[i]);
+        }
+        when(resultSet.getMetaData()).thenReturn(metaData);
+        when(resultSet.next()).thenReturn(true, false);
+        return resultSet;
+    }
+}
@@ -0,0 +1,102 @@
+package platform.qa.database;
+
+import org.junit.jupiter.api.Test;
+import org.postgresql.PGConnection;
+import org.postgresql.PGNotification;
+import platform.qa.database.notify.ChangeNotifier;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+import javax.sql.DataSource;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Matchers.anyInt;
+import static org.mockito.Matchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class ChangeNotifierTest {
+    DataSource source = mock(DataSource.class);
+    Connection listenConnection = mock(Connection.class);
+    PGConnection pgConnection = mock(PGConnection.class);
+    AtomicInteger calls = new AtomicInteger();
+
+    @Test
+    public void waitWakesUpOnNotificationOfWatchedTableTest() throws Exception {
+        mockNotifications("registry.document", "registry.person");
+
+        try (var notifier = ChangeNotifier.listen(source, "registry.person")) {
+            long seen = notifier.sequence();
+            long start = System.nanoTime();
+
+            assertEquals(seen + 1, notifier.awaitChange(seen, Duration.ofSeconds(5)));
+            assertTrue(Duration.ofNanos(System.nanoTime() - start).compareTo(Duration.ofSeconds(1)) < 0);
+            assertEquals(seen + 1, notifier.awaitChange(seen + 1, Duration.ofMillis(100)));
+        }
+        verify(listenConnection).close();
+    }
+
+    @Test
+    public void entityIsCheckedRightAfterNotificationTest() throws Exception {
+        mockNotifications("registry.person");
+        var queryConnection = mock(Connection.class);
+        var statement = mock(PreparedStatement.class);
+        var resultSet = mock(ResultSet.class);
+        when(source.getConnection()).thenReturn(listenConnection, queryConnection);
+        when(queryConnection.prepareStatement(anyString())).thenReturn(statement);
+        when(statement.executeQuery()).thenReturn(resultSet);
+        when(resultSet.next()).thenReturn(false, true, false);
+        when(resultSet.getString(1)).thenReturn("42");
+
+        var tableInfoDb = new TableInfoDb(source);
+        try (var notifier = ChangeNotifier.listen(source, "registry.person")) {
+            tableInfoDb.setChangeNotifier(notifier);
+            long start = System.nanoTime();
+
+            assertEquals("42", tableInfoDb.waitAndGetEntity("select id from registry.person", false));
+            assertTrue(Duration.ofNanos(System.nanoTime() - start).compareTo(Duration.ofMillis(900)) < 0);
+        }
+    }
+
+    @Test
+    public void notifierIsInactiveWhenConnectionIsLostTest() throws Exception {
+        mockConnection();
+        when(pgConnection.getNotifications(anyInt())).thenThrow(new SQLException("connection lost"));
+
+        try (var notifier = ChangeNotifier.listen(source)) {
+            Thread.sleep(100);
+            assertFalse(notifier.isActive());
+        }
+        verify(listenConnection).close();
+    }
+
+    private void mockNotifications(String... tables) throws SQLException {
+        mockConnection();
+        when(pgConnection.getNotifications(anyInt())).thenAnswer(invocation -> {
+            Thread.sleep(100);
+            int call = calls.getAndIncrement();
+            return call < tables.length ? new PGNotification[] {notification(tables[call])} : null;
+        });
+    }
+
+    private void mockConnection() throws SQLException {
+        when(source.getConnection()).thenReturn(listenConnection);
+        when(listenConnection.unwrap(PGConnection.class)).thenReturn(pgConnection);
+        when(listenConnection.createStatement()).thenReturn(mock(Statement.class));
+    }
+
+    private PGNotification notification(String table) {
+        var notification = mock(PGNotification.class);
+        when(notification.getName()).thenReturn(ChangeNotifier.CHANNEL);
+        when(notification.getParameter()).thenReturn(table);
+        return notification;
+    }
+}
@@ -0,0 +1,67 @@
+package platform.qa.database;
+
+import org.junit.jupiter.api.Test;
+import platform.qa.database.stream.CursorStream;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.List;
+import java.util.stream.Collectors;
+import javax.sql.DataSource;
+
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Matchers.anyInt;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class CursorStreamTest {
+    DataSource source = mock(DataSource.class);
+    Connection connection = mock(Connection.class);
+    Statement statement = mock(Statement.class);
+    ResultSet resultSet = mock(ResultSet.class);
+
+    @Test
+    public void rowsAreReadThroughCursorAndConnectionIsReleasedTest() throws SQLException {
+        mockQuery("select name from registry.person");
+        when(resultSet.next()).thenReturn(true, true, false);
+        when(resultSet.getString(1)).thenReturn("first", "second");
+
+        try (var rows = CursorStream.open(source, "select name from registry.person", 500,
+                metaData -> rs -> rs.getString(1))) {
+            assertEquals(List.of("first", "second"), rows.collect(Collectors.toList()));
+        }
+
+        var order = inOrder(connection, statement);
+        order.verify(connection).setAutoCommit(false);
+        order.verify(statement).setFetchSize(500);
+        order.verify(connection).rollback();
+        order.verify(connection).setAutoCommit(true);
+        order.verify(connection).close();
+        verify(resultSet).close();
+    }
+
+    @Test
+    public void connectionIsReleasedWhenQueryFailsTest() throws SQLException {
+        mockQuery("select broken");
+        when(statement.executeQuery("select broken")).thenThrow(new SQLException("syntax error"));
+
+        assertThatThrownBy(() -> CursorStream.open(source, "select broken", 500, metaData -> rs -> rs.getString(1)))
+                .isInstanceOf(SQLException.class);
+        verify(statement).close();
+        verify(connection).close();
+    }
+
+    private void mockQuery(String query) throws SQLException {
+        when(source.getConnection()).thenReturn(connection);
+        when(connection.getAutoCommit()).thenReturn(true);
+        when(connection.createStatement(anyInt(), anyInt())).thenReturn(statement);
+        when(statement.executeQuery(query)).thenReturn(resultSet);
+        when(resultSet.getMetaData()).thenReturn(mock(ResultSetMetaData.class));
+    }
+}
@@ -0,0 +1,66 @@
+package platform.qa.database;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.postgresql.ds.PGSimpleDataSource;
+import platform.qa.entities.Db;
+import platform.qa.entities.User;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class DataSourceInitializerTest {
+    Db db = db("jdbc:postgresql://localhost:5432/");
+
+    @AfterEach
+    public void closePools() {
+        System.clearProperty("qa.db.pool.enabled");
+        DataSourceInitializer.closeAll();
+    }
+
+    @Test
+    public void poolIsReusedForSameUrlUserAndSchemaTest() {
+        var source = DataSourceInitializer.getSource(db, "registry");
+
+        assertTrue(source instanceof HikariDataSource);
+        assertSame(source, DataSourceInitializer.getSource(db, "registry"));
+        assertSame(source, DataSourceInitializer.getSource(db, new User("postgres", "secret"), "registry"));
+        assertNotSame(source, DataSourceInitializer.getSource(db, "audit"));
+        assertNotSame(source, DataSourceInitializer.getSource(db, new User("reader", "secret"), "registry"));
+        assertNotSame(source, DataSourceInitializer.getSource(db("jdbc:postgresql://other:5432/"), "registry"));
+    }
+
+    @Test
+    public void closeAllClosesPoolsAndNextCallCreatesNewPoolTest() {
+        var source = (HikariDataSource) DataSourceInitializer.getSource(db, "registry");
+
+        DataSourceInitializer.closeAll();
+
+        assertTrue(source.isClosed());
+        var recreated = (HikariDataSource) DataSourceInitializer.getSource(db, "registry");
+        assertNotSame(source, recreated);
+        assertFalse(recreated.isClosed());
+    }
+
+    @Test
+    public void simpleDataSourceIsUsedWhenPoolingIsDisabledTest() {
+        System.setProperty("qa.db.pool.enabled", "false");
+
+        var source = DataSourceInitializer.getSource(db, "registry");
+
+        assertTrue(source instanceof PGSimpleDataSource);
+        assertEquals("registry", ((PGSimpleDataSource) source).getDatabaseName());
+    }
+
+    private static Db db(String url) {
+        var db = new Db();
+        db.setUrl(url);
+        db.setUser("postgres");
+        db.setPassword("secret");
+        return db;
+    }
+}
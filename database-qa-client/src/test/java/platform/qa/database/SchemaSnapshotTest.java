@@ -0,0 +1,77 @@
+package platform.qa.database;
+
+import org.junit.jupiter.api.Test;
+import platform.qa.database.schema.SchemaSnapshot;
+
+import java.sql.Array;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.List;
+import java.util.Map;
+import javax.sql.DataSource;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Matchers.any;
+import static org.mockito.Matchers.anyString;
+import static org.mockito.Matchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class SchemaSnapshotTest {
+    DataSource source = mock(DataSource.class);
+    Connection connection = mock(Connection.class);
+    PreparedStatement statement = mock(PreparedStatement.class);
+    ResultSet resultSet = mock(ResultSet.class);
+
+    @Test
+    public void columnsOfAllTablesAreReadByOneQueryTest() throws SQLException {
+        mockQuery();
+        var array = mock(Array.class);
+        when(connection.createArrayOf(eq("text"), any(Object[].class))).thenReturn(array);
+        when(resultSet.next()).thenReturn(true, true, true, false);
+        when(resultSet.getString(1)).thenReturn("person", "person", "document");
+        when(resultSet.getString(2)).thenReturn("id", "name", "id");
+        when(resultSet.getString(3)).thenReturn("uuid", "text", "uuid");
+
+        var columns = new TableInfoDb(source).getAllColumnsForSpecificTables(List.of("person", "document", "absent"));
+
+        assertEquals(Map.of("id", "uuid", "name", "text"), columns.get("person"));
+        assertEquals(Map.of("id", "uuid"), columns.get("document"));
+        assertTrue(columns.get("absent").isEmpty());
+        verify(connection, times(1)).prepareStatement(anyString());
+        verify(statement).setArray(1, array);
+    }
+
+    @Test
+    public void diffShowsChangedColumnsAndTablesTest() {
+        var before = new SchemaSnapshot("registry",
+                Map.of("person", Map.of("id", "uuid", "name", "text"), "legacy", Map.of("id", "uuid")),
+                Map.of("person", List.of("(length(name) > 0)")));
+        var after = new SchemaSnapshot("registry",
+                Map.of("person", Map.of("id", "uuid", "name", "character varying", "age", "integer"),
+                        "document", Map.of("id", "uuid")),
+                Map.of());
+
+        var diff = before.diff(after);
+
+        assertEquals(List.of("document"), diff.getAddedTables());
+        assertEquals(List.of("legacy"), diff.getRemovedTables());
+        assertEquals(List.of(
+                "person.age: column added (integer)",
+                "person.name: type changed text -> character varying",
+                "person: constraint removed (length(name) > 0)"), diff.getChanges());
+        assertTrue(after.diff(after).isEmpty());
+    }
+
+    private void mockQuery() throws SQLException {
+        when(source.getConnection()).thenReturn(connection);
+        when(connection.prepareStatement(anyString())).thenReturn(statement);
+        when(statement.executeQuery()).thenReturn(resultSet);
+        when(statement.getConnection()).thenReturn(connection);
+    }
+}
@@ -19,6 +19,9 @@ package platform.qa.email.service;
 import static io.restassured.RestAssured.given;
 
 import io.restassured.builder.RequestSpecBuilder;
+import io.restassured.config.DecoderConfig;
+import io.restassured.config.DecoderConfig.ContentDecoder;
+import io.restassured.config.RestAssuredConfig;
 import io.restassured.http.ContentType;
 import io.restassured.response.ValidatableResponse;
 import io.restassured.specification.RequestSpecification;
@@ -36,9 +39,20 @@ public class EmailService {
     private final Service emailService;
 
     public EmailService(Service emailService) {
+        this(emailService, true);
+    }
+
+    /**
+     * @param emailService mail service
+     * @param compressResponses request responses compressed by gzip or deflate
+     */
+    public EmailService(Service emailService, boolean compressResponses) {
         this.emailService = emailService;
         this.requestSpec = new RequestSpecBuilder()
                 .setContentType(ContentType.JSON)
+                .setConfig(RestAssuredConfig.config().decoderConfig(compressResponses
+                        ? DecoderConfig.decoderConfig().contentDecoders(ContentDecoder.GZIP, ContentDecoder.DEFLATE)
+                        : DecoderConfig.decoderConfig().noContentDecoders()))
                 .build();
     }
 
@@ -17,50 +17,86 @@
 package platform.qa.rest;
 
 import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
-import static org.awaitility.Awaitility.await;
 
 import io.restassured.http.Method;
 import io.restassured.response.Response;
 import io.restassured.specification.RequestSpecification;
-import lombok.SneakyThrows;
+import io.restassured.specification.SpecificationQuerier;
+import lombok.Getter;
+import lombok.Setter;
 import lombok.extern.log4j.Log4j2;
+import platform.qa.rest.logging.HttpLogSettings;
+import platform.qa.rest.logging.HttpLogger;
+import platform.qa.rest.metrics.HttpMetrics;
+import platform.qa.rest.retry.RetryExecutor;
+import platform.qa.rest.retry.RetryPolicy;
+import platform.qa.rest.uri.UriCache;
 
 import java.net.URI;
-import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.apache.logging.log4j.LogManager;
 
 @Log4j2
 public abstract class BaseServiceClient {
 
-    private final int pollingInterval = 3;
-    private final int waitingTimeout = 5;
+    protected final HttpLogger httpLog = new HttpLogger(LogManager.getLogger(getClass()));
+
+    @Getter
+    @Setter
+    private RetryPolicy retryPolicy = RetryPolicy.defaultPolicy();
+
+    /**
+     * Configures logging of requests performed by the client
+     * @param settings logging settings, use {@link HttpLogSettings#disabled()} to switch logging off
+     */
+    public void setLogSettings(HttpLogSettings settings) {
+        httpLog.setSettings(settings);
+    }
 
-    @SneakyThrows
     protected Response waitFor(RequestSpecification request, Method method, String url) {
-        final Response[] response = {null};
-        await()
-                .pollInterval(pollingInterval, TimeUnit.SECONDS)
-                .atMost(waitingTimeout, TimeUnit.MINUTES)
-                .untilAsserted(() -> {
-                    response[0] = retrieveResponse(request, method, url);
-                    assertThat(503)
-                            .as("Service is not ready: " + response[0].body().asString())
-                            .isNotEqualTo(response[0].statusCode());
+        var attempts = new AtomicInteger();
+        Response response;
+        try {
+            response = new RetryExecutor(retryPolicy)
+                    .execute(resolveHost(request, url == null ? null : UriCache.get(url)), () -> {
+                        attempts.incrementAndGet();
+                        return retrieveResponse(request, method, url);
+                    });
+        } finally {
+            httpLog.endRequest();
+        }
+        if (attempts.get() > 1 && HttpMetrics.isEnabled()) {
+            HttpMetrics.getRegistry().recordRetries(HttpMetrics.endpoint(method.name(), String.valueOf(url)),
+                    attempts.get() - 1);
+        }
+
+        assertThat(503)
+                .as(() -> "Service is not ready: " + response.body().asString())
+                .isNotEqualTo(response.statusCode());
 
-                    assertThat(504)
-                            .as("Gateway time out on requests: " + url)
-                            .isNotEqualTo(response[0].statusCode());
-                });
-        return response[0];
+        assertThat(504)
+                .as("Gateway time out on requests: " + url)
+                .isNotEqualTo(response.statusCode());
+        return response;
     }
 
-    @SneakyThrows
     protected Response retrieveResponse(RequestSpecification request, Method method, String url) {
-        log.info("RequestSpecification = " + request);
-        log.info("Method = " + method);
-        log.info("url = " + url);
+        httpLog.info(() -> "RequestSpecification = " + request + ", Method = " + method + ", url = " + url);
         return (url != null)
-                ? (Response) request.request(method, new URI(url)).then().extract()
+                ? (Response) request.request(method, UriCache.get(url)).then().extract()
                 : (Response) request.request(method).then().extract();
     }
 
+    protected String resolveHost(RequestSpecification request, URI uri) {
+        if (uri != null) {
+            var authority = uri.getAuthority();
+            if (authority != null) {
+                return authority;
+            }
+        }
+
+        var baseUri = URI.create(SpecificationQuerier.query(request).getBaseUri());
+        return baseUri.getAuthority() != null ? baseUri.getAuthority() : baseUri.toString();
+    }
+
 }
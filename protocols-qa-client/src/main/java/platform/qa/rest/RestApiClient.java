@@ -32,89 +32,92 @@ import lombok.Getter;
 import lombok.extern.log4j.Log4j2;
 import platform.qa.entities.IEntity;
 import platform.qa.entities.Service;
-
+import platform.qa.rest.auth.TokenFilter;
+import platform.qa.rest.auth.TokenProvider;
+import platform.qa.rest.bulk.BulkExecutor;
+import platform.qa.rest.bulk.BulkResult;
+import platform.qa.rest.cache.GetCacheSettings;
+import platform.qa.rest.cache.ResponseCache;
+import platform.qa.rest.cassette.Cassette;
+import platform.qa.rest.cassette.CassetteFilter;
+import platform.qa.rest.compression.CompressionSettings;
+import platform.qa.rest.connection.HttpConnectionPool;
+import platform.qa.rest.headers.HeaderProfile;
+import platform.qa.rest.metrics.MetricsFilter;
+import platform.qa.rest.retry.RetryExecutor;
+import platform.qa.rest.uri.EndpointTemplate;
+import platform.qa.rest.uri.UriCache;
+import platform.qa.rest.utils.JsonArrayStream;
+import platform.qa.rest.utils.RequestSpecifications;
+
+import java.util.Collection;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
-import java.util.UUID;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 import org.apache.logging.log4j.message.ParameterizedMessage;
-import com.github.javafaker.Faker;
 
 /**
- * Client to work with REST API requests
+ * Client to work with REST API requests.
+ * Client is thread-safe and could be shared by parallel tests: setters replace base specification
+ * instead of modifying it, requests are sent with specification derived from the base one.
  */
 @Log4j2
 public class RestApiClient extends BaseServiceClient {
 
+    private static final int DEFAULT_BULK_PARALLELISM = 16;
+
     @Getter
     private HashMap<String, String> headers = new HashMap<>();
 
     private Boolean isSignatureSetted = false;
     private Boolean isBusinessProcessIdSetted = false;
-    private Faker faker = new Faker();
-    private RequestSpecification rs;
-
-    private String xSourceSystem = "X-Source-System";
-    private String xSourceApplication = "X-Source-Application";
-    private String xSourceBusinessProcess = "X-Source-Business-Process";
-    private String xSourceBusinessActivity = "X-Source-Business-Activity";
-    private String xSourceBusinessProcessDefinitionId = "X-Source-Business-Process-Definition-Id";
-    private String xSourceBusinessProcessInstanceId = "X-Source-Business-Process-Instance-Id";
-    private String xSourceRootBusinessProcessInstanceId = "X-Source-Root-Business-Process-Instance-Id";
-    private String xSourceBusinessActivityInstanceId = "X-Source-Business-Activity-Instance-Id";
+    /**
+     * Base specification of the client, it is never modified after publishing.
+     * Each request derives own specification from it, so client could be shared by parallel tests.
+     */
+    private volatile RequestSpecification rs;
+
+    private String xSourceBusinessProcessInstanceId = HeaderProfile.X_SOURCE_BUSINESS_PROCESS_INSTANCE_ID;
+    private String xSourceRootBusinessProcessInstanceId = HeaderProfile.X_SOURCE_ROOT_BUSINESS_PROCESS_INSTANCE_ID;
     private String xAccessToken = "X-Access-Token";
-    private String xDigitalSignature = "X-Digital-Signature";
-    private String xDigitalSignatureDerived = "X-Digital-Signature-Derived";
-    private String xXsrfToken = "X-XSRF-TOKEN";
-    private String cookie = "Cookie";
-
+    private String xDigitalSignature = HeaderProfile.X_DIGITAL_SIGNATURE;
+    private String xDigitalSignatureDerived = HeaderProfile.X_DIGITAL_SIGNATURE_DERIVED;
 
-    private final HashMap<String, String> mandatoryHeaders = new HashMap<>() {{
-        put(xSourceSystem, faker.letterify("??????????"));
-        put(xSourceApplication, faker.letterify("??????????"));
-        put(xXsrfToken, "Token");
-        put(cookie, "XSRF-TOKEN=Token");
-
-        if (!isSignatureSetted) {
-            put(xDigitalSignature, faker.letterify("??????????"));
-            put(xDigitalSignatureDerived, faker.letterify("??????????"));
-        }
-    }};
-
-    private final HashMap<String, String> nonMandatoryHeaders = new HashMap<>() {{
-        put(xSourceBusinessProcess, faker.letterify("??????????"));
-        put(xSourceBusinessActivity, faker.letterify("??????????"));
-        put(xSourceBusinessProcessDefinitionId, faker.letterify("??????????"));
-        put(xSourceBusinessActivityInstanceId, UUID.randomUUID().toString());
-
-        if (!isBusinessProcessIdSetted) {
-            String id = UUID.randomUUID().toString();
-            put(xSourceBusinessProcessInstanceId, id);
-            put(xSourceRootBusinessProcessInstanceId, id);
-        }
-    }};
+    private HeaderProfile headerProfile = HeaderProfile.random();
+    private volatile ResponseCache getCache;
 
     public RestApiClient(Service dataFactory) {
-        headers.putAll(mandatoryHeaders);
-        headers.putAll(nonMandatoryHeaders);
+        headers.putAll(headerProfile.getAll());
         rs = init(dataFactory.getUrl(), dataFactory.getUser().getToken());
         rs = addHeaders(headers);
     }
 
+    /**
+     * Creates client with precomputed headers, profile could be shared by many clients
+     * @param dataFactory data factory service
+     * @param headerProfile immutable set of mandatory and non-mandatory headers
+     */
+    public RestApiClient(Service dataFactory, HeaderProfile headerProfile) {
+        this.headerProfile = headerProfile;
+        headers.putAll(headerProfile.getAll());
+        rs = init(dataFactory.getUrl(), dataFactory.getUser().getToken());
+        rs = addHeaders(headers);
+    }
 
     public RestApiClient(Service dataFactory, Map<String, String> customHeaders) {
         headers.putAll(customHeaders);
-        headers.putAll(mandatoryHeaders);
-        headers.putAll(nonMandatoryHeaders);
+        headers.putAll(headerProfile.getAll());
         rs = init(dataFactory.getUrl(), dataFactory.getUser().getToken());
         rs = addHeaders(headers);
     }
 
     public RestApiClient(String url, String digitalSignature) {
         rs = init(url);
-        mandatoryHeaders.put(xDigitalSignature, digitalSignature);
-        mandatoryHeaders.put(xDigitalSignatureDerived, digitalSignature);
-        headers.putAll(mandatoryHeaders);
-        headers.putAll(nonMandatoryHeaders);
+        headerProfile = headerProfile.withDigitalSignature(digitalSignature, digitalSignature);
+        headers.putAll(headerProfile.getAll());
         rs = addHeaders(headers);
     }
 
@@ -132,34 +135,29 @@ public class RestApiClient extends BaseServiceClient {
     public RestApiClient(Service dataFactory, String digitalSignature) {
         rs = init(dataFactory.getUrl(), dataFactory.getUser().getToken());
 
-        setDigitalSignatureValue(digitalSignature);
-        mandatoryHeaders.put(xDigitalSignatureDerived, digitalSignature);
+        headerProfile = headerProfile.withDigitalSignature(digitalSignatureValue(digitalSignature), digitalSignature);
 
-        headers.putAll(mandatoryHeaders);
-        headers.putAll(nonMandatoryHeaders);
+        headers.putAll(headerProfile.getAll());
         rs = addHeaders(headers);
     }
 
     public RestApiClient(Service dataFactory, String digitalSignature, String businessProcessInstanceId) {
         rs = init(dataFactory.getUrl(), dataFactory.getUser().getToken());
 
-        setDigitalSignatureValue(digitalSignature);
-        mandatoryHeaders.put(xDigitalSignatureDerived, digitalSignature);
+        headerProfile = headerProfile
+                .withDigitalSignature(digitalSignatureValue(digitalSignature), digitalSignature)
+                .withBusinessProcessInstanceId(businessProcessInstanceId);
 
-        headers.putAll(mandatoryHeaders);
-        nonMandatoryHeaders.put(xSourceBusinessProcessInstanceId, businessProcessInstanceId);
-        nonMandatoryHeaders.put(xSourceRootBusinessProcessInstanceId, businessProcessInstanceId);
-        headers.putAll(nonMandatoryHeaders);
+        headers.putAll(headerProfile.getAll());
         rs = addHeaders(headers);
     }
 
-    private void setDigitalSignatureValue(String digitalSignature) {
+    private String digitalSignatureValue(String digitalSignature) {
         if (Boolean.parseBoolean(System.getProperty("CA_ISOLATION"))) {
-            mandatoryHeaders.put(xDigitalSignature, "Key-6.dat");
-            return;
+            return "Key-6.dat";
         }
 
-        mandatoryHeaders.put(xDigitalSignature, digitalSignature);
+        return digitalSignature;
     }
 
     public RestApiClient(String url, Map<String, String> headers) {
@@ -170,10 +168,8 @@ public class RestApiClient extends BaseServiceClient {
 
     public RestApiClient(String url, String token, String businessProcessInstanceId) {
         rs = init(url, token);
-        headers.putAll(mandatoryHeaders);
-        nonMandatoryHeaders.put(xSourceBusinessProcessInstanceId, businessProcessInstanceId);
-        nonMandatoryHeaders.put(xSourceRootBusinessProcessInstanceId, businessProcessInstanceId);
-        headers.putAll(nonMandatoryHeaders);
+        headerProfile = headerProfile.withBusinessProcessInstanceId(businessProcessInstanceId);
+        headers.putAll(headerProfile.getAll());
         rs = addHeaders(headers);
     }
 
@@ -181,15 +177,17 @@ public class RestApiClient extends BaseServiceClient {
         rs = init(url);
     }
 
-    public RestApiClient setMandatoryHeaders() {
-        headers.putAll(mandatoryHeaders);
+    public synchronized RestApiClient setMandatoryHeaders() {
+        headers.putAll(headerProfile.getMandatory());
         rs = addHeaders(headers);
+        invalidateGetCache();
         return this;
     }
 
-    public RestApiClient setNonMandatoryHeaders() {
-        headers.putAll(nonMandatoryHeaders);
+    public synchronized RestApiClient setNonMandatoryHeaders() {
+        headers.putAll(headerProfile.getNonMandatory());
         rs = addHeaders(headers);
+        invalidateGetCache();
         return this;
     }
 
@@ -215,151 +213,314 @@ public class RestApiClient extends BaseServiceClient {
     }
 
     private RequestSpecification init(String url) {
-        RequestSpecBuilder requestSpecBuilder = new RequestSpecBuilder();
-        rs = requestSpecBuilder
+        RequestSpecBuilder requestSpecBuilder = new RequestSpecBuilder()
                 .setConfig(
                         config()
                                 .logConfig(logConfig()
                                         .enableLoggingOfRequestAndResponseIfValidationFails()
                                         .enablePrettyPrinting(Boolean.TRUE))
+                                .httpClient(HttpConnectionPool.httpClientConfig(url))
                 )
-                .build();
+                .addFilter(new MetricsFilter());
+        var cassette = Cassette.global();
+        if (cassette != null) {
+            requestSpecBuilder.addFilter(cassette.filter());
+        }
+        rs = CompressionSettings.defaults().apply(requestSpecBuilder.build());
 
         return given().spec(rs).baseUri(url);
     }
 
     private RequestSpecification addHeaders(Map headers) {
-        return rs
+        return given().spec(rs)
                 .headers(headers);
     }
 
-    public RestApiClient addBusinessProcessId(String businessProcessId) {
+    /**
+     * Specification of single request derived from base specification of the client
+     */
+    private RequestSpecification request() {
+        return given().spec(rs);
+    }
+
+    /**
+     * Enables coalescing of identical concurrent GET requests and short-lived cache of their responses
+     * for {@link #get(String)} and {@link #get(String, String)}
+     * @param settings settings of the cache
+     */
+    public RestApiClient enableGetCache(GetCacheSettings settings) {
+        getCache = new ResponseCache(settings);
+        return this;
+    }
+
+    public RestApiClient enableGetCache() {
+        return enableGetCache(GetCacheSettings.builder().build());
+    }
+
+    private Response getResponse(String url) {
+        var cache = getCache;
+        if (cache == null) {
+            return waitFor(request(), Method.GET, url);
+        }
+
+        // cached or shared response is returned without waitFor, which ends the request otherwise
+        try {
+            return cache.get(url, etag -> waitFor(etag == null
+                    ? request()
+                    : request().header("If-None-Match", etag), Method.GET, url));
+        } finally {
+            httpLog.endRequest();
+        }
+    }
+
+    private void invalidateGetCache() {
+        var cache = getCache;
+        if (cache != null) {
+            cache.clear();
+        }
+    }
+
+    public synchronized RestApiClient addBusinessProcessId(String businessProcessId) {
         isBusinessProcessIdSetted = true;
-        rs.header(xSourceBusinessProcessInstanceId, businessProcessId);
-        rs.header(xSourceRootBusinessProcessInstanceId, businessProcessId);
+        rs = request()
+                .header(xSourceBusinessProcessInstanceId, businessProcessId)
+                .header(xSourceRootBusinessProcessInstanceId, businessProcessId);
+        invalidateGetCache();
+        return this;
+    }
+
+    /**
+     * Configures compression of responses and request bodies of the client
+     * @param settings compression settings
+     */
+    public synchronized RestApiClient setCompression(CompressionSettings settings) {
+        rs = settings.apply(request());
+        invalidateGetCache();
+        return this;
+    }
+
+    /**
+     * Token of the provider is set to every request instead of static token of the client,
+     * e.g. {@link platform.qa.rest.auth.KeycloakTokenProvider} that refreshes token before expiration
+     * @param tokenProvider provider of access token
+     */
+    public synchronized RestApiClient setTokenProvider(TokenProvider tokenProvider) {
+        rs = request()
+                .noFiltersOfType(TokenFilter.class)
+                .filter(new TokenFilter(tokenProvider, xAccessToken));
+        invalidateGetCache();
+        return this;
+    }
+
+    /**
+     * Records responses of the client to the cassette or replays them from it
+     * @param cassette cassette opened for record or replay
+     */
+    public synchronized RestApiClient setCassette(Cassette cassette) {
+        rs = request()
+                .noFiltersOfType(CassetteFilter.class)
+                .filter(cassette.filter());
+        invalidateGetCache();
         return this;
     }
 
-    public RestApiClient setToken(String token) {
-        rs
+    public synchronized RestApiClient setToken(String token) {
+        rs = request()
+                .noFiltersOfType(TokenFilter.class)
                 .header(xAccessToken, token);
+        invalidateGetCache();
         return this;
     }
 
-    public RestApiClient setDigitalSignature(String digitalSignature) {
+    public synchronized RestApiClient setDigitalSignature(String digitalSignature) {
         isSignatureSetted = true;
-        rs.header(xDigitalSignature, digitalSignature);
+        rs = request().header(xDigitalSignature, digitalSignature);
+        invalidateGetCache();
         return this;
     }
 
-    public RestApiClient setDigitalSignatureDerived(String digitalSignatureDerived) {
+    public synchronized RestApiClient setDigitalSignatureDerived(String digitalSignatureDerived) {
         isSignatureSetted = true;
-        rs.header(xDigitalSignatureDerived, digitalSignatureDerived);
+        rs = request().header(xDigitalSignatureDerived, digitalSignatureDerived);
+        invalidateGetCache();
         return this;
     }
 
     public HashMap<String, String> postAndReturnHeaders(IEntity payload, String url) {
-        log.info(new ParameterizedMessage("POST до відповідного url та повернення переліку заголовків запиту: {}",
+        httpLog.request(() -> new ParameterizedMessage("POST до відповідного url та повернення переліку заголовків запиту: {}",
                 url));
-        post(payload, url);
+        insert(payload, url);
         return headers;
     }
 
     public ValidatableResponse sendGetWithParams(String url, Map<String, String> listParams) {
-        log.info(new ParameterizedMessage("GET до відповідного url: {} з параметрами {}", url, listParams));
-        return waitFor(rs
+        httpLog.request(() -> new ParameterizedMessage("GET до відповідного url: {} з параметрами {}", url, listParams));
+        return waitFor(request()
                 .queryParams(listParams)
                 .when(), Method.GET, url)
                 .then().statusCode(200);
     }
 
     public Response postNegative(IEntity payload, String url) {
-        log.info(new ParameterizedMessage("POST до відповідного url: {}", url));
-        return waitFor(rs
+        httpLog.request(() -> new ParameterizedMessage("POST до відповідного url: {}", url));
+        return waitFor(request()
                 .contentType(ContentType.JSON)
                 .body(payload), Method.POST, url);
     }
 
     public Response postWithWrongContentType(String payload, String url) {
-        log.info(new ParameterizedMessage("POST до відповідного url: {}", url));
-        return waitFor(rs
+        httpLog.request(() -> new ParameterizedMessage("POST до відповідного url: {}", url));
+        return waitFor(request()
                 .contentType(ContentType.XML)
                 .body(payload), Method.POST, url);
     }
 
     public Response getNegative(String id, String url) {
-        log.info(new ParameterizedMessage("GET до відповідного url: {}", url));
-        return waitFor(rs, Method.GET, url + id);
+        httpLog.request(() -> new ParameterizedMessage("GET до відповідного url: {}", url));
+        return waitFor(request(), Method.GET, EndpointTemplate.appendingId(url).expand(id).toString());
     }
 
     public Response get(String url) {
-        log.info(new ParameterizedMessage("GET до відповідного url: {}", url));
-        return waitFor(rs, Method.GET, url);
+        httpLog.request(() -> new ParameterizedMessage("GET до відповідного url: {}", url));
+        return getResponse(url);
     }
 
     public Response getWithParams(String url, Map params) {
-        log.info(new ParameterizedMessage("GET до відповідного url: {} з параметрами: {}", url, params));
-        return this.rs.queryParams(params).when().get(url, new Object[0]);
+        httpLog.request(() -> new ParameterizedMessage("GET до відповідного url: {} з параметрами: {}", url, params));
+        try {
+            return request().queryParams(params).when().get(url, new Object[0]);
+        } finally {
+            httpLog.endRequest();
+        }
     }
 
     public Response get(String id, String url) {
-        log.info(new ParameterizedMessage("GET до відповідного url: {} з id {}", url, id));
-        Response response = waitFor(rs, Method.GET, url + id);
+        httpLog.request(() -> new ParameterizedMessage("GET до відповідного url: {} з id {}", url, id));
+        Response response = getResponse(EndpointTemplate.appendingId(url).expand(id).toString());
         assertThat(response.getStatusCode()).as("Entity was not returned: " + response.body().asString()).isEqualTo(200);
         return response;
     }
 
     public Response post(IEntity payload, String url) {
-        log.info(new ParameterizedMessage("POST до відповідного url: {}", url));
-        Response response = waitFor(rs.contentType(ContentType.JSON).body(payload), Method.POST, url);
+        httpLog.request(() -> new ParameterizedMessage("POST до відповідного url: {}", url));
+        return insert(payload, url);
+    }
+
+    private Response insert(IEntity payload, String url) {
+        Response response = waitFor(request().contentType(ContentType.JSON).body(payload), Method.POST, url);
         assertThat(response.getStatusCode()).as("Entity was not inserted: "
                 + response.body().asString()).isEqualTo(201);
         return response;
     }
 
+    /**
+     * Inserts entities by parallel POST requests, status codes are asserted once after all requests are finished
+     * @param payloads entities to insert
+     * @param url url to POST entities
+     * @return summary with ids of inserted entities and latency percentiles
+     */
+    public BulkResult postAll(Collection<? extends IEntity> payloads, String url) {
+        return postAll(payloads, url, DEFAULT_BULK_PARALLELISM);
+    }
+
+    /**
+     * Inserts entities by parallel POST requests, status codes are asserted once after all requests are finished
+     * @param payloads entities to insert
+     * @param url url to POST entities
+     * @param parallelism max count of requests performed at the same time
+     * @return summary with ids of inserted entities and latency percentiles
+     */
+    public BulkResult postAll(Collection<? extends IEntity> payloads, String url, int parallelism) {
+        httpLog.request(() -> new ParameterizedMessage("POST {} записів до відповідного url: {}", payloads.size(), url));
+        BulkResult result;
+        try {
+            var retryExecutor = new RetryExecutor(getRetryPolicy());
+            var uri = UriCache.get(url);
+            var host = resolveHost(rs, uri);
+
+            List<Supplier<Response>> requests = payloads.stream()
+                    .map(payload -> (Supplier<Response>) () -> retryExecutor.execute(host,
+                            () -> (Response) request()
+                                    .contentType(ContentType.JSON)
+                                    .body(payload)
+                                    .request(Method.POST, uri)
+                                    .then()
+                                    .extract()))
+                    .collect(Collectors.toList());
+
+            result = BulkExecutor.execute(requests, 201, parallelism);
+            httpLog.info(() -> new ParameterizedMessage("Результат POST до відповідного url: {} - {}", url, result));
+        } finally {
+            httpLog.endRequest();
+        }
+
+        assertThat(result.hasFailures()).as("Entities were not inserted: " + result.getFailures().stream()
+                .limit(10)
+                .collect(Collectors.toList())).isFalse();
+        return result;
+    }
+
     public Response postSearchCondition(IEntity payload, String url) {
-        log.info(new ParameterizedMessage("POST до відповідного url: {}", url));
-        Response response = waitFor(rs.contentType(ContentType.JSON).body(payload), Method.POST, url);
+        httpLog.request(() -> new ParameterizedMessage("POST до відповідного url: {}", url));
+        Response response = waitFor(request().contentType(ContentType.JSON).body(payload), Method.POST, url);
         assertThat(response.getStatusCode()).as("Entity was not inserted: "
                 + response.body().asString()).isEqualTo(200);
         return response;
     }
 
+    /**
+     * POST of search condition which response is parsed incrementally while stream is consumed
+     * @param payload search condition
+     * @param url url of search condition
+     * @param elementType type of found entity
+     * @return stream of found entities, should be closed to release connection
+     * @param <T> type of found entity
+     */
+    public <T> Stream<T> postSearchConditionAsStream(IEntity payload, String url, Class<T> elementType) {
+        httpLog.request(() -> new ParameterizedMessage("POST до відповідного url: {}", url));
+        Response response = waitFor(RequestSpecifications.unbuffered(request())
+                .contentType(ContentType.JSON)
+                .body(payload), Method.POST, url);
+        assertThat(response.getStatusCode()).as(() -> "Search condition was not performed: "
+                + response.body().asString()).isEqualTo(200);
+        return JsonArrayStream.of(response.asInputStream(), elementType);
+    }
+
     public Response post(String body, String url) {
-        log.info(new ParameterizedMessage("POST до відповідного url: {}", url));
-        return waitFor(rs.contentType(ContentType.JSON).body(body), Method.POST, url);
+        httpLog.request(() -> new ParameterizedMessage("POST до відповідного url: {}", url));
+        return waitFor(request().contentType(ContentType.JSON).body(body), Method.POST, url);
     }
 
     public void put(String id, IEntity payload, String url) {
-        log.info(new ParameterizedMessage("PUT до відповідного url: {}", url));
-        var rp = waitFor(rs
+        httpLog.request(() -> new ParameterizedMessage("PUT до відповідного url: {}", url));
+        var rp = waitFor(request()
                 .contentType(ContentType.JSON)
-                .body(payload), Method.PUT, url + id)
+                .body(payload), Method.PUT, EndpointTemplate.appendingId(url).expand(id).toString())
                 .then()
                 .extract();
         assertThat(rp.statusCode()).as("Entity was not updated: " + rp.body().asString()).isEqualTo(204);
     }
 
     public void put(String id, String body, String url) {
-        log.info(new ParameterizedMessage("PUT до відповідного url: {}", url));
-        var rp = waitFor(rs
+        httpLog.request(() -> new ParameterizedMessage("PUT до відповідного url: {}", url));
+        var rp = waitFor(request()
                 .contentType(ContentType.JSON)
-                .body(body), Method.PUT, url + id)
+                .body(body), Method.PUT, EndpointTemplate.appendingId(url).expand(id).toString())
                 .then()
                 .extract();
         assertThat(rp.statusCode()).as("Entity was not updated: " + rp.body().asString()).isEqualTo(204);
     }
 
     public Response putUpsert(IEntity payload, String url) {
-        log.info(new ParameterizedMessage("UPSERT до відповідного url: {}", url));
-        return waitFor(rs
+        httpLog.request(() -> new ParameterizedMessage("UPSERT до відповідного url: {}", url));
+        return waitFor(request()
                 .contentType(ContentType.JSON)
                 .body(payload), Method.PUT, url);
     }
 
     public ExtractableResponse<Response> put(IEntity payload, String url) {
-        log.info(new ParameterizedMessage("PUT до відповідного url: {}", url));
-        var rp = waitFor(rs
+        httpLog.request(() -> new ParameterizedMessage("PUT до відповідного url: {}", url));
+        var rp = waitFor(request()
                 .contentType(ContentType.JSON)
                 .body(payload), Method.PUT, url)
                 .then()
@@ -369,18 +530,18 @@ public class RestApiClient extends BaseServiceClient {
     }
 
     public void delete(String id, String url) {
-        log.info(new ParameterizedMessage("DELETE до відповідного url: {}", url));
-        var rp = waitFor(rs, Method.DELETE, url + id)
+        httpLog.request(() -> new ParameterizedMessage("DELETE до відповідного url: {}", url));
+        var rp = waitFor(request(), Method.DELETE, EndpointTemplate.appendingId(url).expand(id).toString())
                 .then()
                 .extract();
         assertThat(rp.statusCode()).as("Entity was not deleted: " + rp.body().asString()).isEqualTo(204);
     }
 
     public void patch(String id, IEntity payload, String url) {
-        log.info(new ParameterizedMessage("PATCH до відповідного url: {}", url));
-        var rp = waitFor(rs
+        httpLog.request(() -> new ParameterizedMessage("PATCH до відповідного url: {}", url));
+        var rp = waitFor(request()
                 .contentType(ContentType.JSON)
-                .body(payload), Method.PATCH, url + id)
+                .body(payload), Method.PATCH, EndpointTemplate.appendingId(url).expand(id).toString())
                 .then()
                 .extract();
         assertThat(rp.statusCode()).as("Entity was not updated: " + rp.body().asString()).isEqualTo(204);
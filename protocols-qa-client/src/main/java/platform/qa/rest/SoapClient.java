@@ -16,17 +16,26 @@
 
 package platform.qa.rest;
 
+import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
+
 import io.restassured.RestAssured;
-import io.restassured.filter.log.RequestLoggingFilter;
-import io.restassured.filter.log.ResponseLoggingFilter;
 import io.restassured.http.ContentType;
 import io.restassured.http.Header;
 import io.restassured.http.Method;
+import io.restassured.response.Response;
 import io.restassured.response.ResponseBodyExtractionOptions;
 import io.restassured.specification.RequestSpecification;
+import lombok.SneakyThrows;
 import lombok.extern.log4j.Log4j2;
 import platform.qa.entities.Service;
+import platform.qa.rest.connection.HttpConnectionPool;
+import platform.qa.rest.logging.HttpLoggingFilter;
+import platform.qa.rest.metrics.MetricsFilter;
+import platform.qa.rest.soap.EnvelopeTemplate;
+import platform.qa.rest.soap.SoapResponseReader;
 
+import java.io.InputStream;
+import java.util.Map;
 import org.apache.logging.log4j.message.ParameterizedMessage;
 
 
@@ -42,33 +51,78 @@ public class SoapClient extends BaseServiceClient {
         rs = init(service.getUrl());
     }
 
+    public SoapClient(String url) {
+        rs = init(url);
+    }
+
     public SoapClient(Service service, String contentType) {
         rs = init(service.getUrl(), contentType);
     }
 
     private RequestSpecification init(String url, String contentType) {
         return RestAssured.given()
-                .filter(new ResponseLoggingFilter())
-                .filter(new RequestLoggingFilter())
+                .config(RestAssured.config().httpClient(HttpConnectionPool.httpClientConfig(url)))
+                .filter(new MetricsFilter())
                 .baseUri(url)
                 .header(new Header("Content-Type", contentType));
     }
 
     private RequestSpecification init(String url) {
         return RestAssured.given()
-                .filter(new ResponseLoggingFilter())
-                .filter(new RequestLoggingFilter())
+                .config(RestAssured.config().httpClient(HttpConnectionPool.httpClientConfig(url)))
+                .filter(new MetricsFilter())
                 .baseUri(url)
                 .contentType(ContentType.XML);
     }
 
     public ResponseBodyExtractionOptions post(String payload, String url) {
-        log.info(new ParameterizedMessage("POST до відповідного url: {} з тілом повідомлення {}", url, payload));
-        return waitFor(rs
+        httpLog.request(() -> new ParameterizedMessage("POST до відповідного url: {} з тілом повідомлення {}",
+                url, httpLog.truncate(payload)));
+        return waitFor(request(true)
                 .body(payload), Method.POST, url)
                 .then()
                 .statusCode(200)
                 .extract()
                 .body();
     }
+
+    /**
+     * Sends envelope built from the template
+     * @param template parsed envelope template
+     * @param values values of the template placeholders
+     * @param url url of the request
+     * @return body of the response
+     */
+    public ResponseBodyExtractionOptions post(EnvelopeTemplate template, Map<String, ?> values, String url) {
+        return post(template.bind(values), url);
+    }
+
+    /**
+     * Sends envelope and extracts values from the response while it is read, body of the response is not buffered
+     * @param payload envelope
+     * @param url url of the request
+     * @param paths paths of the elements, see {@link SoapResponseReader}
+     * @return values by paths, value is null when element is not found
+     */
+    @SneakyThrows
+    public Map<String, String> postAndExtract(String payload, String url, String... paths) {
+        httpLog.request(() -> new ParameterizedMessage("POST до відповідного url: {} з тілом повідомлення {}",
+                url, httpLog.truncate(payload)));
+        Response response = waitFor(request(false).body(payload), Method.POST, url);
+        assertThat(response.statusCode())
+                .as(() -> "SOAP request was not successful: " + response.body().asString())
+                .isEqualTo(200);
+
+        try (InputStream body = response.asInputStream()) {
+            return SoapResponseReader.extract(body, paths);
+        }
+    }
+
+    /**
+     * Request specification derived from the base one, responses are logged only when logging is enabled
+     */
+    private RequestSpecification request(boolean logResponseBody) {
+        var request = RestAssured.given().spec(rs);
+        return httpLog.isEnabled() ? request.filter(new HttpLoggingFilter(httpLog, logResponseBody)) : request;
+    }
 }
@@ -0,0 +1,71 @@
+/*
+ * Copyright 2022 EPAM Systems.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package platform.qa.rest.auth;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import lombok.Getter;
+import platform.qa.rest.utils.JsonUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.Base64;
+
+/**
+ * Access token with its expiration time
+ */
+@Getter
+public class AccessToken {
+
+    private final String value;
+    private final Instant expiresAt;
+
+    public AccessToken(String value, Instant expiresAt) {
+        this.value = value;
+        this.expiresAt = expiresAt;
+    }
+
+    /**
+     * Creates token which expiration time is taken from {@code exp} claim of JWT,
+     * token that is not JWT or has no {@code exp} claim never expires
+     * @param jwt access token
+     */
+    public static AccessToken fromJwt(String jwt) {
+        var parts = jwt.split("\\.");
+        if (parts.length < 2) {
+            return new AccessToken(jwt, Instant.MAX);
+        }
+
+        try {
+            var payload = new String(Base64.getUrlDecoder().decode(parts[1]), StandardCharsets.UTF_8);
+            var exp = JsonUtils.readerFor(JsonNode.class).readTree(payload).get("exp");
+            return new AccessToken(jwt, exp == null || !exp.canConvertToLong()
+                    ? Instant.MAX
+                    : Instant.ofEpochSecond(exp.asLong()));
+        } catch (Exception e) {
+            return new AccessToken(jwt, Instant.MAX);
+        }
+    }
+
+    public boolean isExpiredAt(Instant moment) {
+        return !moment.isBefore(expiresAt);
+    }
+
+    @Override
+    public String toString() {
+        return "AccessToken(expiresAt=" + expiresAt + ")";
+    }
+}
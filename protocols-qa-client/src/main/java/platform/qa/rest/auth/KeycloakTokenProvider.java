@@ -0,0 +1,115 @@
+/*
+ * Copyright 2022 EPAM Systems.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package platform.qa.rest.auth;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import io.restassured.RestAssured;
+import io.restassured.http.ContentType;
+import lombok.SneakyThrows;
+import platform.qa.entities.User;
+import platform.qa.rest.connection.HttpConnectionPool;
+import platform.qa.rest.exception.TokenRequestException;
+import platform.qa.rest.utils.JsonUtils;
+
+import javax.annotation.Nullable;
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Token provider that requests tokens from Keycloak OpenID Connect token endpoint
+ * and refreshes them in background before expiration.
+ * <p>
+ * Example:
+ * <code>
+ *     var tokenProvider = KeycloakTokenProvider.password(keycloak.getUrl(), user);
+ *     new RestApiClient(dataFactory).setTokenProvider(tokenProvider);
+ * </code>
+ */
+public class KeycloakTokenProvider extends RefreshingTokenProvider {
+
+    private KeycloakTokenProvider(String keycloakUrl, String realm, Map<String, String> form) {
+        super(() -> requestToken(tokenUrl(keycloakUrl, realm), form));
+    }
+
+    /**
+     * Provider of user token, password grant is used
+     * @param keycloakUrl url of Keycloak server
+     * @param user user with realm, client id, login and password
+     */
+    public static KeycloakTokenProvider password(String keycloakUrl, User user) {
+        return password(keycloakUrl, user, null);
+    }
+
+    /**
+     * Provider of user token for confidential client, password grant is used
+     * @param keycloakUrl url of Keycloak server
+     * @param user user with realm, client id, login and password
+     * @param clientSecret secret of the client
+     */
+    public static KeycloakTokenProvider password(String keycloakUrl, User user, @Nullable String clientSecret) {
+        var form = new HashMap<String, String>();
+        form.put("grant_type", "password");
+        form.put("client_id", user.getClientId());
+        form.put("username", user.getLogin());
+        form.put("password", user.getPassword());
+        if (clientSecret != null) {
+            form.put("client_secret", clientSecret);
+        }
+        return new KeycloakTokenProvider(keycloakUrl, user.getRealm(), form);
+    }
+
+    /**
+     * Provider of client token, client credentials grant is used
+     * @param keycloakUrl url of Keycloak server
+     * @param realm realm of the client
+     * @param clientId id of the client
+     * @param clientSecret secret of the client
+     */
+    public static KeycloakTokenProvider clientCredentials(String keycloakUrl, String realm, String clientId,
+                                                         String clientSecret) {
+        return new KeycloakTokenProvider(keycloakUrl, realm, Map.of(
+                "grant_type", "client_credentials",
+                "client_id", clientId,
+                "client_secret", clientSecret));
+    }
+
+    private static String tokenUrl(String keycloakUrl, String realm) {
+        var serverUrl = keycloakUrl.endsWith("/") ? keycloakUrl.substring(0, keycloakUrl.length() - 1) : keycloakUrl;
+        return serverUrl + "/realms/" + realm + "/protocol/openid-connect/token";
+    }
+
+    @SneakyThrows
+    private static AccessToken requestToken(String tokenUrl, Map<String, String> form) {
+        var response = RestAssured.given()
+                .config(RestAssured.config().httpClient(HttpConnectionPool.httpClientConfig(tokenUrl)))
+                .contentType(ContentType.URLENC)
+                .formParams(form)
+                .post(tokenUrl);
+
+        if (response.statusCode() != 200) {
+            throw new TokenRequestException(tokenUrl, response.statusCode(), response.asString());
+        }
+
+        var json = JsonUtils.readerFor(JsonNode.class).readTree(response.asString());
+        var accessToken = json.get("access_token").asText();
+        var expiresIn = json.get("expires_in");
+        return expiresIn == null
+                ? AccessToken.fromJwt(accessToken)
+                : new AccessToken(accessToken, Instant.now().plusSeconds(expiresIn.asLong()));
+    }
+}
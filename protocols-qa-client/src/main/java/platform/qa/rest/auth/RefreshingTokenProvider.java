@@ -0,0 +1,154 @@
+/*
+ * Copyright 2022 EPAM Systems.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package platform.qa.rest.auth;
+
+import lombok.extern.log4j.Log4j2;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+
+/**
+ * Token provider that caches token and refreshes it in background before expiration.
+ * Cached token is read without locking, when token is missing or expired only one thread
+ * requests new token while other threads wait for its result.
+ */
+@Log4j2
+public class RefreshingTokenProvider implements TokenProvider, AutoCloseable {
+
+    /**
+     * Token is treated as expired earlier to cover clock difference and request duration
+     */
+    private static final Duration EXPIRATION_SKEW = Duration.ofSeconds(5);
+
+    private static final ScheduledExecutorService SCHEDULER = Executors.newSingleThreadScheduledExecutor(task -> {
+        var thread = new Thread(task, "qa-token-refresh");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private final Supplier<AccessToken> fetcher;
+    private final Duration refreshBefore;
+    private final AtomicReference<AccessToken> current = new AtomicReference<>();
+    private final AtomicReference<CompletableFuture<AccessToken>> inFlight = new AtomicReference<>();
+    private volatile ScheduledFuture<?> scheduledRefresh;
+    private volatile boolean closed;
+
+    public RefreshingTokenProvider(Supplier<AccessToken> fetcher) {
+        this(fetcher, Duration.ofSeconds(30));
+    }
+
+    /**
+     * @param fetcher requests new token from identity provider
+     * @param refreshBefore token is refreshed in background specified time before expiration,
+     *                      but not earlier than half of token lifetime
+     */
+    public RefreshingTokenProvider(Supplier<AccessToken> fetcher, Duration refreshBefore) {
+        this.fetcher = fetcher;
+        this.refreshBefore = refreshBefore;
+    }
+
+    @Override
+    public String getToken() {
+        var token = current.get();
+        if (token != null && !token.isExpiredAt(Instant.now().plus(EXPIRATION_SKEW))) {
+            return token.getValue();
+        }
+
+        try {
+            return refresh(token).join().getValue();
+        } catch (CompletionException e) {
+            throw e.getCause() instanceof RuntimeException ? (RuntimeException) e.getCause() : e;
+        }
+    }
+
+    @Override
+    public void invalidate(String token) {
+        current.updateAndGet(cached -> cached != null && cached.getValue().equals(token) ? null : cached);
+    }
+
+    @Override
+    public void close() {
+        closed = true;
+        var scheduled = scheduledRefresh;
+        if (scheduled != null) {
+            scheduled.cancel(false);
+        }
+    }
+
+    /**
+     * Requests new token if cached token is still the observed one, concurrent callers share single request
+     * @param observed token that caller considers stale
+     * @return future of the new token
+     */
+    private CompletableFuture<AccessToken> refresh(AccessToken observed) {
+        while (true) {
+            var running = inFlight.get();
+            if (running != null) {
+                return running;
+            }
+
+            var future = new CompletableFuture<AccessToken>();
+            if (!inFlight.compareAndSet(null, future)) {
+                continue;
+            }
+
+            try {
+                var cached = current.get();
+                if (cached != observed) {
+                    future.complete(cached);
+                } else {
+                    var token = fetcher.get();
+                    current.set(token);
+                    scheduleRefresh(token);
+                    future.complete(token);
+                }
+            } catch (RuntimeException e) {
+                future.completeExceptionally(e);
+            } finally {
+                inFlight.set(null);
+            }
+            return future;
+        }
+    }
+
+    private void scheduleRefresh(AccessToken token) {
+        if (closed || token.getExpiresAt().equals(Instant.MAX)) {
+            return;
+        }
+
+        long lifetimeMillis = Duration.between(Instant.now(), token.getExpiresAt()).toMillis();
+        long delayMillis = lifetimeMillis - Math.min(refreshBefore.toMillis(), lifetimeMillis / 2);
+        scheduledRefresh = SCHEDULER.schedule(() -> {
+            if (!closed) {
+                refresh(token).whenComplete((refreshed, error) -> {
+                    if (error != null) {
+                        log.warn("Token was not refreshed in background, it will be requested again by the next "
+                                + "request: {}", error.getMessage());
+                    }
+                });
+            }
+        }, Math.max(0, delayMillis), TimeUnit.MILLISECONDS);
+    }
+}
@@ -0,0 +1,57 @@
+/*
+ * Copyright 2022 EPAM Systems.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package platform.qa.rest.auth;
+
+import io.restassured.filter.FilterContext;
+import io.restassured.filter.OrderedFilter;
+import io.restassured.response.Response;
+import io.restassured.specification.FilterableRequestSpecification;
+import io.restassured.specification.FilterableResponseSpecification;
+
+/**
+ * Rest Assured filter that sets token of {@link TokenProvider} to the request header.
+ * Token rejected by the service with 401 status is invalidated, so next request is sent with new token.
+ */
+public class TokenFilter implements OrderedFilter {
+
+    private final TokenProvider tokenProvider;
+    private final String headerName;
+
+    public TokenFilter(TokenProvider tokenProvider, String headerName) {
+        this.tokenProvider = tokenProvider;
+        this.headerName = headerName;
+    }
+
+    @Override
+    public Response filter(FilterableRequestSpecification requestSpec, FilterableResponseSpecification responseSpec,
+                           FilterContext ctx) {
+        var token = tokenProvider.getToken();
+        requestSpec.removeHeader(headerName);
+        requestSpec.header(headerName, token);
+
+        var response = ctx.next(requestSpec, responseSpec);
+        if (response.statusCode() == 401) {
+            tokenProvider.invalidate(token);
+        }
+        return response;
+    }
+
+    @Override
+    public int getOrder() {
+        return LOWEST_PRECEDENCE;
+    }
+}
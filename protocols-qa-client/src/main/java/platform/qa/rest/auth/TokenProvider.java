@@ -0,0 +1,41 @@
+/*
+ * Copyright 2022 EPAM Systems.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package platform.qa.rest.auth;
+
+/**
+ * Provides access token for requests of the client
+ */
+@FunctionalInterface
+public interface TokenProvider {
+
+    /**
+     * Returns valid access token, implementations should not perform request to identity provider
+     * when cached token is still valid
+     */
+    String getToken();
+
+    /**
+     * Marks token as rejected by the service, next {@link #getToken()} should return another token
+     * @param token rejected token
+     */
+    default void invalidate(String token) {
+    }
+
+    static TokenProvider of(String token) {
+        return () -> token;
+    }
+}
@@ -0,0 +1,118 @@
+/*
+ * Copyright 2022 EPAM Systems.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package platform.qa.rest.bulk;
+
+import io.restassured.path.json.JsonPath;
+import io.restassured.response.Response;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * Performs requests in parallel and collects their results into {@link BulkResult}.
+ * Status codes are not asserted per request, failed requests are reported in the result.
+ */
+public final class BulkExecutor {
+
+    private static final AtomicInteger THREAD_COUNTER = new AtomicInteger();
+
+    private BulkExecutor() {
+        throw new IllegalStateException("This is utility class!");
+    }
+
+    /**
+     * @param requests requests to perform
+     * @param expectedStatusCode expected status code of every request
+     * @param parallelism max count of requests performed at the same time
+     * @return summary of performed requests
+     */
+    public static BulkResult execute(List<Supplier<Response>> requests, int expectedStatusCode, int parallelism) {
+        var ids = Arrays.asList(new String[requests.size()]);
+        var failures = new BulkResult.Failure[requests.size()];
+        var latencies = new long[requests.size()];
+        long start = System.nanoTime();
+
+        ExecutorService executor = Executors.newFixedThreadPool(Math.max(1, parallelism), runnable -> {
+            var thread = new Thread(runnable, "qa-bulk-" + THREAD_COUNTER.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        try {
+            List<Future<?>> futures = new ArrayList<>(requests.size());
+            for (int i = 0; i < requests.size(); i++) {
+                int index = i;
+                futures.add(executor.submit(() -> {
+                    long requestStart = System.nanoTime();
+                    try {
+                        var response = requests.get(index).get();
+                        latencies[index] = System.nanoTime() - requestStart;
+                        if (response.statusCode() == expectedStatusCode) {
+                            ids.set(index, extractId(response));
+                        } else {
+                            failures[index] = new BulkResult.Failure(index, response.statusCode(),
+                                    response.body().asString());
+                        }
+                    } catch (RuntimeException | AssertionError e) {
+                        latencies[index] = System.nanoTime() - requestStart;
+                        failures[index] = new BulkResult.Failure(index, -1, String.valueOf(e.getMessage()));
+                    }
+                }));
+            }
+            await(futures);
+        } finally {
+            executor.shutdownNow();
+        }
+
+        var failed = new ArrayList<BulkResult.Failure>();
+        for (var failure : failures) {
+            if (failure != null) {
+                failed.add(failure);
+            }
+        }
+        return new BulkResult(ids, failed, latencies, Duration.ofNanos(System.nanoTime() - start));
+    }
+
+    private static void await(List<Future<?>> futures) {
+        for (var future : futures) {
+            try {
+                future.get();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("Bulk request was interrupted", e);
+            } catch (ExecutionException e) {
+                throw new IllegalStateException(e.getCause());
+            }
+        }
+    }
+
+    private static String extractId(Response response) {
+        try {
+            return JsonPath.from(response.body().asString()).getString("id");
+        } catch (RuntimeException e) {
+            return null;
+        }
+    }
+}
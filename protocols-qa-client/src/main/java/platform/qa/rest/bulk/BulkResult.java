@@ -0,0 +1,94 @@
+/*
+ * Copyright 2022 EPAM Systems.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package platform.qa.rest.bulk;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Summary of bulk request: ids of created entities, failed requests and latency percentiles
+ */
+@Getter
+public class BulkResult {
+
+    private final int total;
+    private final List<String> ids;
+    private final List<Failure> failures;
+    private final Duration elapsed;
+    private final Duration p50;
+    private final Duration p90;
+    private final Duration p99;
+    private final Duration max;
+
+    @Getter
+    @AllArgsConstructor
+    public static class Failure {
+        private final int index;
+        private final int statusCode;
+        private final String message;
+
+        @Override
+        public String toString() {
+            return "#" + index + " [" + statusCode + "] " + message;
+        }
+    }
+
+    /**
+     * @param ids ids of entities in order of request, null for failed requests
+     * @param failures failed requests
+     * @param latencies latencies of requests in nanoseconds
+     * @param elapsed total time of bulk request
+     */
+    public BulkResult(List<String> ids, List<Failure> failures, long[] latencies, Duration elapsed) {
+        this.total = ids.size();
+        this.ids = Collections.unmodifiableList(new ArrayList<>(ids));
+        this.failures = Collections.unmodifiableList(new ArrayList<>(failures));
+        this.elapsed = elapsed;
+
+        var sorted = Arrays.copyOf(latencies, latencies.length);
+        Arrays.sort(sorted);
+        this.p50 = percentile(sorted, 50);
+        this.p90 = percentile(sorted, 90);
+        this.p99 = percentile(sorted, 99);
+        this.max = sorted.length == 0 ? Duration.ZERO : Duration.ofNanos(sorted[sorted.length - 1]);
+    }
+
+    public boolean hasFailures() {
+        return !failures.isEmpty();
+    }
+
+    static Duration percentile(long[] sorted, double percentile) {
+        if (sorted.length == 0) {
+            return Duration.ZERO;
+        }
+        int rank = (int) Math.ceil(percentile / 100 * sorted.length);
+        return Duration.ofNanos(sorted[Math.max(rank, 1) - 1]);
+    }
+
+    @Override
+    public String toString() {
+        return String.format("total=%d, failed=%d, elapsed=%d ms, p50=%d ms, p90=%d ms, p99=%d ms, max=%d ms",
+                total, failures.size(), elapsed.toMillis(), p50.toMillis(), p90.toMillis(), p99.toMillis(),
+                max.toMillis());
+    }
+}
@@ -0,0 +1,46 @@
+/*
+ * Copyright 2022 EPAM Systems.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package platform.qa.rest.cache;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.Duration;
+
+/**
+ * Settings of {@link ResponseCache}
+ */
+@Getter
+@Builder
+public class GetCacheSettings {
+
+    /**
+     * Time while successful response is returned without request, {@link Duration#ZERO} switches caching off
+     * and only concurrent identical requests are coalesced, responses are not stored or revalidated
+     */
+    @Builder.Default
+    private Duration ttl = Duration.ofSeconds(1);
+
+    /**
+     * Expired response with {@code ETag} is revalidated by {@code If-None-Match} request
+     */
+    @Builder.Default
+    private boolean revalidate = true;
+
+    @Builder.Default
+    private int maxEntries = 10_000;
+}
@@ -0,0 +1,152 @@
+/*
+ * Copyright 2022 EPAM Systems.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package platform.qa.rest.cache;
+
+import io.restassured.response.Response;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+/**
+ * Cache of idempotent GET requests. Concurrent requests with the same key share one HTTP call
+ * (single-flight), successful responses are kept for TTL and revalidated by ETag after that.
+ * Cache belongs to the client and must be cleared when headers of the client are changed,
+ * responses of requests started before {@link #clear()} are not cached.
+ */
+public class ResponseCache {
+
+    private static final int OK = 200;
+    private static final int NOT_MODIFIED = 304;
+
+    private final GetCacheSettings settings;
+    private final Map<String, CompletableFuture<Response>> inFlight = new ConcurrentHashMap<>();
+    private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+    private final AtomicLong generation = new AtomicLong();
+
+    public ResponseCache(GetCacheSettings settings) {
+        this.settings = settings;
+    }
+
+    /**
+     * Returns cached response or performs request, concurrent callers with the same key wait for single request
+     * @param key key of the request, e.g. url
+     * @param request performs request, argument is ETag to send in {@code If-None-Match} header or null
+     * @return response of the request
+     */
+    public Response get(String key, Function<String, Response> request) {
+        var entry = entries.get(key);
+        if (entry != null && entry.isFresh()) {
+            return entry.response;
+        }
+
+        var loadGeneration = generation.get();
+        var call = new CompletableFuture<Response>();
+        var existing = inFlight.putIfAbsent(key, call);
+        if (existing != null) {
+            return await(existing);
+        }
+
+        try {
+            var response = fetch(key, entry, request, loadGeneration);
+            call.complete(response);
+            return response;
+        } catch (RuntimeException | Error e) {
+            call.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, call);
+        }
+    }
+
+    /**
+     * Drops cached responses, requests in flight are not shared with later callers and their responses are not cached
+     */
+    public void clear() {
+        generation.incrementAndGet();
+        inFlight.clear();
+        entries.clear();
+    }
+
+    private Response fetch(String key, Entry entry, Function<String, Response> request, long loadGeneration) {
+        var etag = settings.isRevalidate() && entry != null ? entry.etag : null;
+        var response = request.apply(etag);
+
+        if (response.statusCode() == NOT_MODIFIED && entry != null) {
+            store(key, new Entry(entry.response, entry.etag, expiresAt()), loadGeneration);
+            return entry.response;
+        }
+
+        // body is read before response is shared between threads
+        response.asByteArray();
+        if (response.statusCode() == OK && !settings.getTtl().isZero()) {
+            if (entries.size() >= settings.getMaxEntries()) {
+                entries.values().removeIf(cached -> !cached.isFresh());
+                if (entries.size() >= settings.getMaxEntries()) {
+                    entries.clear();
+                }
+            }
+            store(key, new Entry(response, response.header("ETag"), expiresAt()), loadGeneration);
+        }
+        return response;
+    }
+
+    private void store(String key, Entry entry, long loadGeneration) {
+        entries.put(key, entry);
+        // cache was cleared while the request was performed, response could be sent with old headers
+        if (generation.get() != loadGeneration) {
+            entries.remove(key, entry);
+        }
+    }
+
+    private long expiresAt() {
+        return System.nanoTime() + settings.getTtl().toNanos();
+    }
+
+    private static Response await(CompletableFuture<Response> call) {
+        try {
+            return call.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            if (e.getCause() instanceof Error) {
+                throw (Error) e.getCause();
+            }
+            throw e;
+        }
+    }
+
+    private static final class Entry {
+        private final Response response;
+        private final String etag;
+        private final long expiresAt;
+
+        Entry(Response response, String etag, long expiresAt) {
+            this.response = response;
+            this.etag = etag;
+            this.expiresAt = expiresAt;
+        }
+
+        boolean isFresh() {
+            return System.nanoTime() - expiresAt < 0;
+        }
+    }
+}
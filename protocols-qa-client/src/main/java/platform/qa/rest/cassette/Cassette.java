@@ -0,0 +1,301 @@
+/*
+ * Copyright 2022 EPAM Systems.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package platform.qa.rest.cassette;
+
+import io.restassured.http.Header;
+import lombok.SneakyThrows;
+import lombok.extern.log4j.Log4j2;
+
+import javax.annotation.Nullable;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * File with recorded HTTP responses. In record mode responses received by the clients are appended to the file,
+ * in replay mode responses are served from the file without sending requests.
+ * Responses are indexed by hash of request method, URI and body, the same request recorded several times
+ * is replayed in order of recording. Replayed file is memory-mapped, so only read responses are loaded;
+ * files larger than 2 GB are mapped by several segments, each entry is within one segment.
+ * Incomplete last entry of interrupted recording is ignored.
+ * <p>
+ * File format: {@code QACS} magic and version followed by entries
+ * {@code [key hash: long][status code: int][headers length: int][status line and headers][body length: int][body]}.
+ * <p>
+ * Cassette of the test run could be set by system properties {@code qa.http.cassette} (path to the file)
+ * and {@code qa.http.cassette.mode} ({@code record} or {@code replay}, default is {@code replay}).
+ */
+@Log4j2
+public final class Cassette implements Closeable {
+
+    public enum Mode {
+        RECORD, REPLAY
+    }
+
+    private static final int MAGIC = 0x51414353;
+    private static final int VERSION = 1;
+    private static final int FILE_HEADER_BYTES = 8;
+    private static final int ENTRY_HEADER_BYTES = 16;
+    private static final long MAX_SEGMENT_BYTES = Integer.MAX_VALUE;
+
+    private static volatile Cassette global;
+    private static volatile boolean globalResolved;
+
+    private final Path file;
+    private final Mode mode;
+    private final FileChannel channel;
+    private final NavigableMap<Long, MappedByteBuffer> segments = new TreeMap<>();
+    private final Map<Long, List<Long>> index = new ConcurrentHashMap<>();
+    private final Map<Long, AtomicInteger> replayed = new ConcurrentHashMap<>();
+
+    private Cassette(Path file, Mode mode) throws IOException {
+        this.file = file;
+        this.mode = mode;
+
+        if (mode == Mode.RECORD) {
+            if (file.getParent() != null) {
+                Files.createDirectories(file.getParent());
+            }
+            this.channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                    StandardOpenOption.TRUNCATE_EXISTING);
+            channel.write(ByteBuffer.allocate(FILE_HEADER_BYTES).putInt(MAGIC).putInt(VERSION).flip());
+        } else {
+            this.channel = null;
+            try (var readChannel = FileChannel.open(file, StandardOpenOption.READ)) {
+                buildIndex(readChannel);
+            }
+        }
+    }
+
+    /**
+     * Opens cassette to record responses, existing file is overwritten
+     * @param file path to the file
+     */
+    @SneakyThrows
+    public static Cassette record(Path file) {
+        return new Cassette(file, Mode.RECORD);
+    }
+
+    /**
+     * Opens cassette to replay recorded responses
+     * @param file path to the recorded file
+     */
+    @SneakyThrows
+    public static Cassette replay(Path file) {
+        return new Cassette(file, Mode.REPLAY);
+    }
+
+    /**
+     * Returns cassette configured by system properties, {@code null} if it is not configured
+     */
+    @Nullable
+    public static Cassette global() {
+        if (!globalResolved) {
+            synchronized (Cassette.class) {
+                if (!globalResolved) {
+                    var path = System.getProperty("qa.http.cassette");
+                    if (path != null && !path.isBlank()) {
+                        var mode = Mode.valueOf(System.getProperty("qa.http.cassette.mode", "replay")
+                                .trim().toUpperCase());
+                        global = mode == Mode.RECORD ? record(Paths.get(path)) : replay(Paths.get(path));
+                        log.info("HTTP cassette {} is used in {} mode", path, mode);
+                    }
+                    globalResolved = true;
+                }
+            }
+        }
+        return global;
+    }
+
+    public Mode getMode() {
+        return mode;
+    }
+
+    public Path getFile() {
+        return file;
+    }
+
+    /**
+     * Count of recorded responses
+     */
+    public int size() {
+        return index.values().stream().mapToInt(List::size).sum();
+    }
+
+    /**
+     * Filter that records or replays responses of the client
+     */
+    public CassetteFilter filter() {
+        return new CassetteFilter(this);
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (channel != null) {
+            channel.close();
+        }
+    }
+
+    /**
+     * Calculates key of the request
+     * @param method HTTP method
+     * @param uri full URI of the request with query params
+     * @param body request body, empty if there is no body
+     */
+    @SneakyThrows
+    static long key(String method, String uri, byte[] body) {
+        var digest = MessageDigest.getInstance("SHA-256");
+        digest.update(method.getBytes(StandardCharsets.UTF_8));
+        digest.update((byte) ' ');
+        digest.update(uri.getBytes(StandardCharsets.UTF_8));
+        digest.update((byte) '\n');
+        digest.update(body);
+        return ByteBuffer.wrap(digest.digest()).getLong();
+    }
+
+    synchronized void write(long key, RecordedResponse response) {
+        if (mode != Mode.RECORD) {
+            throw new IllegalStateException("Cassette " + file + " is opened for replay");
+        }
+
+        var head = new StringBuilder(response.getStatusLine()).append('\n');
+        for (Header header : response.getHeaders()) {
+            head.append(header.getName()).append(": ").append(header.getValue()).append('\n');
+        }
+        var headBytes = head.toString().getBytes(StandardCharsets.UTF_8);
+        var body = response.getBody();
+
+        var entry = ByteBuffer.allocate(8 + 4 + 4 + headBytes.length + 4 + body.length)
+                .putLong(key)
+                .putInt(response.getStatusCode())
+                .putInt(headBytes.length)
+                .put(headBytes)
+                .putInt(body.length)
+                .put(body)
+                .flip();
+        try {
+            long position = channel.size();
+            while (entry.hasRemaining()) {
+                channel.write(entry, position + entry.position());
+            }
+            index.computeIfAbsent(key, ignored -> new ArrayList<>()).add(position);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Returns next recorded response of the request, the last one is returned when all of them are replayed
+     */
+    @Nullable
+    RecordedResponse read(long key) {
+        var positions = index.get(key);
+        if (positions == null) {
+            return null;
+        }
+
+        int number = replayed.computeIfAbsent(key, ignored -> new AtomicInteger()).getAndIncrement();
+        return readAt(positions.get(Math.min(number, positions.size() - 1)));
+    }
+
+    private void buildIndex(FileChannel readChannel) throws IOException {
+        long size = readChannel.size();
+        var header = map(readChannel, 0, size);
+        if (size < FILE_HEADER_BYTES || header.getInt() != MAGIC || header.getInt() != VERSION) {
+            throw new IllegalStateException("File " + file + " is not HTTP cassette");
+        }
+
+        long position = FILE_HEADER_BYTES;
+        while (size - position >= ENTRY_HEADER_BYTES) {
+            var segment = segmentFor(readChannel, position, position + ENTRY_HEADER_BYTES, size);
+            long key = segment.getLong();
+            long headLength = Integer.toUnsignedLong(segment.getInt(segment.position() + 4));
+            long bodyLengthAt = position + ENTRY_HEADER_BYTES + headLength;
+            if (size - bodyLengthAt < 4 || bodyLengthAt + 4 - position > MAX_SEGMENT_BYTES) {
+                break;
+            }
+
+            segment = segmentFor(readChannel, position, bodyLengthAt + 4, size);
+            int bodyLengthIndex = (int) (segment.position() + bodyLengthAt - position);
+            long end = bodyLengthAt + 4 + Integer.toUnsignedLong(segment.getInt(bodyLengthIndex));
+            if (end > size || end - position > MAX_SEGMENT_BYTES) {
+                break;
+            }
+
+            segmentFor(readChannel, position, end, size);
+            index.computeIfAbsent(key, ignored -> new ArrayList<>()).add(position);
+            position = end;
+        }
+
+        if (position < size) {
+            log.warn("Incomplete entry at {} of HTTP cassette {} is ignored, {} bytes", position, file, size - position);
+        }
+    }
+
+    /**
+     * Returns mapped segment positioned at the start of range, new segment is mapped from the start
+     * when the range does not fit into the last one
+     */
+    private ByteBuffer segmentFor(FileChannel readChannel, long from, long to, long size) throws IOException {
+        var last = segments.lastEntry();
+        if (last == null || to > last.getKey() + last.getValue().capacity()) {
+            map(readChannel, from, size);
+            last = segments.lastEntry();
+        }
+        return last.getValue().duplicate().position((int) (from - last.getKey()));
+    }
+
+    private ByteBuffer map(FileChannel readChannel, long from, long size) throws IOException {
+        var segment = readChannel.map(FileChannel.MapMode.READ_ONLY, from, Math.min(size - from, MAX_SEGMENT_BYTES));
+        segments.put(from, segment);
+        return segment.duplicate();
+    }
+
+    private RecordedResponse readAt(long position) {
+        var segment = segments.floorEntry(position);
+        var buffer = segment.getValue().duplicate().position((int) (position - segment.getKey()) + 8);
+        int statusCode = buffer.getInt();
+        var head = new byte[buffer.getInt()];
+        buffer.get(head);
+        var body = new byte[buffer.getInt()];
+        buffer.get(body);
+
+        var lines = new String(head, StandardCharsets.UTF_8).split("\n");
+        var headers = new ArrayList<Header>(lines.length - 1);
+        for (int i = 1; i < lines.length; i++) {
+            int separator = lines[i].indexOf(": ");
+            headers.add(new Header(lines[i].substring(0, separator), lines[i].substring(separator + 2)));
+        }
+        return new RecordedResponse(lines[0], statusCode, headers, body);
+    }
+}
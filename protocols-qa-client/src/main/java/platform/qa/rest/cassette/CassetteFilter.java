@@ -0,0 +1,121 @@
+/*
+ * Copyright 2022 EPAM Systems.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package platform.qa.rest.cassette;
+
+import io.restassured.filter.FilterContext;
+import io.restassured.filter.OrderedFilter;
+import io.restassured.http.Header;
+import io.restassured.response.Response;
+import io.restassured.specification.FilterableRequestSpecification;
+import io.restassured.specification.FilterableResponseSpecification;
+import lombok.SneakyThrows;
+import platform.qa.rest.exception.CassetteMissException;
+
+import java.io.File;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
+
+/**
+ * Rest Assured filter that records responses to {@link Cassette} or replays them from it.
+ * Filter runs after other filters except token filter, so token is not requested during replay.
+ * Requests are matched by method, URI and content of the body, so only bodies that could be read
+ * without consuming them are supported: string, bytes, file and form parameters.
+ */
+public class CassetteFilter implements OrderedFilter {
+
+    /**
+     * Body is stored decoded and without transfer framing, so these headers are not recorded
+     */
+    private static final Set<String> SKIPPED_HEADERS = Set.of("content-encoding", "content-length",
+            "transfer-encoding");
+
+    private final Cassette cassette;
+
+    CassetteFilter(Cassette cassette) {
+        this.cassette = cassette;
+    }
+
+    @Override
+    public Response filter(FilterableRequestSpecification requestSpec, FilterableResponseSpecification responseSpec,
+                           FilterContext ctx) {
+        long key = Cassette.key(requestSpec.getMethod(), requestSpec.getURI(), bodyBytes(requestSpec));
+
+        if (cassette.getMode() == Cassette.Mode.REPLAY) {
+            var recorded = cassette.read(key);
+            if (recorded == null) {
+                throw new CassetteMissException(requestSpec.getMethod(), requestSpec.getURI(), cassette.getFile());
+            }
+            return recorded.toResponse();
+        }
+
+        var response = ctx.next(requestSpec, responseSpec);
+        var headers = response.getHeaders().asList().stream()
+                .filter(header -> !SKIPPED_HEADERS.contains(header.getName().toLowerCase()))
+                .map(header -> new Header(header.getName(), header.getValue()))
+                .collect(Collectors.toList());
+        cassette.write(key, new RecordedResponse(response.getStatusLine(), response.getStatusCode(), headers,
+                response.asByteArray()));
+        return response;
+    }
+
+    @Override
+    public int getOrder() {
+        return LOWEST_PRECEDENCE - 1;
+    }
+
+    private static byte[] bodyBytes(FilterableRequestSpecification requestSpec) {
+        if (!requestSpec.getMultiPartParams().isEmpty()) {
+            throw new IllegalArgumentException("Multipart request " + requestSpec.getMethod() + " "
+                    + requestSpec.getURI() + " could not be matched by cassette");
+        }
+
+        Object body = requestSpec.getBody();
+        if (body == null) {
+            return requestSpec.getFormParams().isEmpty()
+                    ? new byte[0]
+                    : new TreeMap<>(requestSpec.getFormParams()).toString().getBytes(StandardCharsets.UTF_8);
+        }
+        if (body instanceof String) {
+            return ((String) body).getBytes(StandardCharsets.UTF_8);
+        }
+        if (body instanceof byte[]) {
+            return (byte[]) body;
+        }
+        if (body instanceof File) {
+            return fileDigest(((File) body).toPath());
+        }
+        throw new IllegalArgumentException("Body of type " + body.getClass().getName() + " of request "
+                + requestSpec.getMethod() + " " + requestSpec.getURI() + " could not be matched by cassette");
+    }
+
+    @SneakyThrows
+    private static byte[] fileDigest(Path file) {
+        var digest = MessageDigest.getInstance("SHA-256");
+        try (InputStream content = new DigestInputStream(Files.newInputStream(file), digest)) {
+            content.transferTo(OutputStream.nullOutputStream());
+        }
+        return digest.digest();
+    }
+}
@@ -0,0 +1,57 @@
+/*
+ * Copyright 2022 EPAM Systems.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package platform.qa.rest.cassette;
+
+import io.restassured.builder.ResponseBuilder;
+import io.restassured.http.Header;
+import io.restassured.http.Headers;
+import io.restassured.response.Response;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * Response stored in {@link Cassette}
+ */
+@Getter
+class RecordedResponse {
+
+    private final String statusLine;
+    private final int statusCode;
+    private final List<Header> headers;
+    private final byte[] body;
+
+    RecordedResponse(String statusLine, int statusCode, List<Header> headers, byte[] body) {
+        this.statusLine = statusLine;
+        this.statusCode = statusCode;
+        this.headers = headers;
+        this.body = body;
+    }
+
+    Response toResponse() {
+        var builder = new ResponseBuilder()
+                .setStatusLine(statusLine)
+                .setStatusCode(statusCode)
+                .setHeaders(new Headers(headers))
+                .setBody(body);
+        headers.stream()
+                .filter(header -> header.getName().equalsIgnoreCase("Content-Type"))
+                .findFirst()
+                .ifPresent(header -> builder.setContentType(header.getValue()));
+        return builder.build();
+    }
+}
@@ -0,0 +1,93 @@
+/*
+ * Copyright 2022 EPAM Systems.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package platform.qa.rest.client;
+
+
+import javax.annotation.Nullable;
+import java.lang.reflect.Type;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Non-blocking variant of {@link RestClient} that supports methods:
+ *
+ * GET {@link AsyncRestClient#get(String, Map, Type, int)}
+ * PUT {@link AsyncRestClient#put(String, Map, Object, Type, int, Map)}
+ * POST {@link AsyncRestClient#post(String, Map, Object, Type, int)}
+ * DELETE {@link AsyncRestClient#delete(String, int, Map)}
+ *
+ * Returned futures complete exceptionally with {@link AssertionError} when status code is unexpected.
+ */
+public interface AsyncRestClient {
+
+    /**
+     * GET HTTP request
+     * @param path path to REST API
+     * @param pathParams params for path of REST API
+     * @param type type of returned value
+     * @param statusCode expected request status code
+     * @return future of response of specified type
+     * @param <Response> response type
+     */
+    <Response> CompletableFuture<Response> get(String path,
+                                               @Nullable Map<String, String> pathParams,
+                                               Type type,
+                                               int statusCode);
+
+    /**
+     * POST HTTP request
+     * @param path path to REST API
+     * @param pathParams params for path of REST API
+     * @param body request body
+     * @param type type of returned value
+     * @param statusCode expected request status code
+     * @return future of response of specified type
+     * @param <Request> request type
+     * @param <Response> response type
+     */
+    <Request, Response> CompletableFuture<Response> post(String path,
+                                                         @Nullable Map<String, String> pathParams,
+                                                         Request body,
+                                                         Type type,
+                                                         int statusCode);
+
+    /**
+     * PUT HTTP request
+     * @param path path to REST API
+     * @param pathParams params for path of REST API
+     * @param body request body
+     * @param type type of returned value
+     * @param statusCode expected request status code
+     * @return future of response of specified type
+     * @param <Request> request type
+     * @param <Response> response type
+     */
+    <Request, Response> CompletableFuture<Response> put(String path,
+                                                        @Nullable Map<String, String> pathParams,
+                                                        Request body,
+                                                        Type type,
+                                                        int statusCode,
+                                                        @Nullable Map<String, String> headers);
+
+    /**
+     * DELETE HTTP request
+     * @param path path to REST API
+     * @param statusCode expected request status code
+     * @return future that completes when request is finished
+     */
+    CompletableFuture<Void> delete(String path, int statusCode, @Nullable Map<String, String> headers);
+}
@@ -0,0 +1,39 @@
+/*
+ * Copyright 2022 EPAM Systems.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package platform.qa.rest.client.impl;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.Duration;
+
+/**
+ * Settings of {@link AsyncRestClientImpl}
+ */
+@Getter
+@Builder
+public class AsyncClientSettings {
+
+    /**
+     * Max count of requests sent at the same time, other requests wait in the queue
+     */
+    @Builder.Default
+    private int maxInFlight = 256;
+
+    @Builder.Default
+    private Duration requestTimeout = Duration.ofSeconds(60);
+}
@@ -0,0 +1,266 @@
+/*
+ * Copyright 2022 EPAM Systems.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package platform.qa.rest.client.impl;
+
+import io.restassured.http.ContentType;
+import lombok.SneakyThrows;
+import lombok.extern.log4j.Log4j2;
+import platform.qa.rest.client.AsyncRestClient;
+import platform.qa.rest.logging.HttpLogSettings;
+import platform.qa.rest.logging.HttpLogger;
+import platform.qa.rest.utils.JsonUtils;
+
+import javax.annotation.Nullable;
+import java.lang.reflect.Type;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.text.MessageFormat;
+import java.time.Duration;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * Implementation of {@link AsyncRestClient} based on non-blocking {@link HttpClient}.
+ * Count of requests in flight is limited by {@link AsyncClientSettings#getMaxInFlight()},
+ * exceeding requests are queued without blocking of the caller thread.
+ */
+@Log4j2
+public class AsyncRestClientImpl implements AsyncRestClient {
+
+    private static final HttpClient HTTP_CLIENT = HttpClient.newBuilder()
+            .connectTimeout(Duration.ofSeconds(30))
+            .followRedirects(HttpClient.Redirect.NORMAL)
+            .build();
+
+    private final String baseUrl;
+    private final String accessToken;
+    private final String contentType;
+    private final Duration requestTimeout;
+    private final Semaphore inFlight;
+    private final Queue<Runnable> pending = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger drainCalls = new AtomicInteger();
+    private final HttpLogger httpLog = new HttpLogger(log);
+
+    public AsyncRestClientImpl(String baseUrl, @Nullable String accessToken) {
+        this(baseUrl, accessToken, ContentType.JSON, AsyncClientSettings.builder().build());
+    }
+
+    public AsyncRestClientImpl(String baseUrl, @Nullable String accessToken, ContentType contentType) {
+        this(baseUrl, accessToken, contentType, AsyncClientSettings.builder().build());
+    }
+
+    public AsyncRestClientImpl(String baseUrl,
+                               @Nullable String accessToken,
+                               ContentType contentType,
+                               AsyncClientSettings settings) {
+        this.baseUrl = baseUrl;
+        this.accessToken = accessToken;
+        this.contentType = contentType.withCharset(StandardCharsets.UTF_8);
+        this.requestTimeout = settings.getRequestTimeout();
+        this.inFlight = new Semaphore(settings.getMaxInFlight());
+    }
+
+    /**
+     * Configures logging of requests performed by the client
+     * @param settings logging settings, use {@link HttpLogSettings#disabled()} to switch logging off
+     */
+    public void setLogSettings(HttpLogSettings settings) {
+        httpLog.setSettings(settings);
+    }
+
+    @Override
+    public <Response> CompletableFuture<Response> get(String path,
+                                                      @Nullable Map<String, String> pathParams,
+                                                      Type type,
+                                                      int statusCode) {
+        httpLog.request(() -> MessageFormat.format("Performing async GET request on {0} with path params {1}",
+                path, pathParams));
+
+        return send(() -> request(path, pathParams, null).GET(), type, statusCode);
+    }
+
+    @Override
+    public <Request, Response> CompletableFuture<Response> post(String path,
+                                                                @Nullable Map<String, String> pathParams,
+                                                                Request body,
+                                                                Type type,
+                                                                int statusCode) {
+        httpLog.request(() -> MessageFormat.format("Performing async POST request on {0} with path params {1}",
+                path, pathParams));
+
+        return send(() -> request(path, pathParams, null).POST(bodyPublisher(body)), type, statusCode);
+    }
+
+    @Override
+    public <Request, Response> CompletableFuture<Response> put(String path,
+                                                               @Nullable Map<String, String> pathParams,
+                                                               Request body,
+                                                               Type type,
+                                                               int statusCode,
+                                                               @Nullable Map<String, String> headers) {
+        httpLog.request(() -> MessageFormat.format("Performing async PUT request on {0} with path params {1}",
+                path, pathParams));
+
+        return send(() -> request(path, pathParams, headers).PUT(bodyPublisher(body)), type, statusCode);
+    }
+
+    @Override
+    public CompletableFuture<Void> delete(String path, int statusCode, @Nullable Map<String, String> headers) {
+        httpLog.request(() -> MessageFormat.format("Performing async DELETE request on {0}", path));
+
+        return send(() -> request(path, null, headers).DELETE(), Void.class, statusCode);
+    }
+
+    /**
+     * @return count of requests waiting for free slot
+     */
+    public int getQueuedRequests() {
+        return pending.size();
+    }
+
+    private <T> CompletableFuture<T> send(Supplier<HttpRequest.Builder> request, Type type, int statusCode) {
+        var result = new CompletableFuture<T>();
+
+        pending.add(() -> {
+            try {
+                HTTP_CLIENT.sendAsync(request.get().build(), HttpResponse.BodyHandlers.ofString())
+                        .whenComplete((response, error) -> {
+                            inFlight.release();
+                            drain();
+                            if (error != null) {
+                                result.completeExceptionally(error);
+                                return;
+                            }
+                            complete(result, response, type, statusCode);
+                        });
+            } catch (RuntimeException e) {
+                inFlight.release();
+                drain();
+                result.completeExceptionally(e);
+            }
+        });
+        drain();
+
+        return result;
+    }
+
+    /**
+     * Starts queued requests while there are free slots. Only one thread drains the queue at a time:
+     * call made during draining, e.g. by request that failed synchronously, is counted and handled
+     * by the next loop of the draining thread instead of recursion.
+     */
+    private void drain() {
+        if (drainCalls.getAndIncrement() != 0) {
+            return;
+        }
+
+        int calls = 1;
+        do {
+            while (!pending.isEmpty() && inFlight.tryAcquire()) {
+                var next = pending.poll();
+                if (next == null) {
+                    inFlight.release();
+                    break;
+                }
+                next.run();
+            }
+            calls = drainCalls.addAndGet(-calls);
+        } while (calls != 0);
+    }
+
+    private <T> void complete(CompletableFuture<T> result, HttpResponse<String> response, Type type, int statusCode) {
+        if (response.statusCode() != statusCode) {
+            result.completeExceptionally(new AssertionError(MessageFormat.format(
+                    "Expected status code <{0}> but was <{1}> for {2} {3}: {4}",
+                    statusCode, response.statusCode(), response.request().method(), response.uri(), response.body())));
+            return;
+        }
+
+        try {
+            result.complete(extractResult(response.body(), type));
+        } catch (Exception e) {
+            result.completeExceptionally(e);
+        }
+    }
+
+    @SneakyThrows
+    @SuppressWarnings("unchecked")
+    private <T> T extractResult(String body, Type type) {
+        if (Void.class.getTypeName().equals(type.getTypeName())) {
+            return null;
+        }
+        if (String.class.getTypeName().equals(type.getTypeName())) {
+            return (T) body;
+        }
+
+        return JsonUtils.readerFor(type).readValue(body);
+    }
+
+    private HttpRequest.Builder request(String path,
+                                        @Nullable Map<String, String> pathParams,
+                                        @Nullable Map<String, String> headers) {
+        var builder = HttpRequest.newBuilder(resolve(path, pathParams))
+                .timeout(requestTimeout)
+                .header("Content-Type", contentType);
+
+        if (accessToken != null) {
+            builder.header("X-Access-Token", accessToken);
+        }
+        if (headers != null) {
+            headers.forEach(builder::header);
+        }
+        return builder;
+    }
+
+    private URI resolve(String path, @Nullable Map<String, String> pathParams) {
+        var resolvedPath = path;
+        if (pathParams != null) {
+            for (var param : pathParams.entrySet()) {
+                resolvedPath = resolvedPath.replace("{" + param.getKey() + "}",
+                        URLEncoder.encode(param.getValue(), StandardCharsets.UTF_8).replace("+", "%20"));
+            }
+        }
+
+        if (resolvedPath.startsWith("http://") || resolvedPath.startsWith("https://")) {
+            return URI.create(resolvedPath);
+        }
+
+        var base = baseUrl.endsWith("/") ? baseUrl.substring(0, baseUrl.length() - 1) : baseUrl;
+        var relative = resolvedPath.startsWith("/") ? resolvedPath.substring(1) : resolvedPath;
+        return URI.create(base + "/" + relative);
+    }
+
+    @SneakyThrows
+    private HttpRequest.BodyPublisher bodyPublisher(Object body) {
+        if (body == null) {
+            return HttpRequest.BodyPublishers.noBody();
+        }
+        if (body instanceof String) {
+            return HttpRequest.BodyPublishers.ofString((String) body);
+        }
+        return HttpRequest.BodyPublishers.ofByteArray(JsonUtils.writerFor(body.getClass()).writeValueAsBytes(body));
+    }
+}
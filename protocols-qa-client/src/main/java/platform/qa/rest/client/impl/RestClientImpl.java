@@ -16,7 +16,6 @@
 
 package platform.qa.rest.client.impl;
 
-import com.fasterxml.jackson.databind.DeserializationFeature;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import io.restassured.RestAssured;
 import io.restassured.builder.RequestSpecBuilder;
@@ -26,22 +25,45 @@ import io.restassured.config.RestAssuredConfig;
 import io.restassured.http.ContentType;
 import io.restassured.response.ExtractableResponse;
 import io.restassured.specification.RequestSpecification;
+import lombok.SneakyThrows;
 import lombok.extern.log4j.Log4j2;
+import platform.qa.rest.auth.TokenFilter;
+import platform.qa.rest.auth.TokenProvider;
+import platform.qa.rest.cassette.Cassette;
+import platform.qa.rest.cassette.CassetteFilter;
 import platform.qa.rest.client.RestClient;
+import platform.qa.rest.compression.CompressionSettings;
+import platform.qa.rest.connection.HttpConnectionPool;
+import platform.qa.rest.logging.HttpLogSettings;
+import platform.qa.rest.logging.HttpLogger;
+import platform.qa.rest.metrics.MetricsFilter;
+import platform.qa.rest.transfer.FileTransfers;
+import platform.qa.rest.transfer.ProgressInputStream;
+import platform.qa.rest.transfer.TransferListener;
+import platform.qa.rest.utils.JsonArrayStream;
 import platform.qa.rest.utils.JsonUtils;
+import platform.qa.rest.utils.RequestSpecifications;
 
 import javax.annotation.Nullable;
+import java.io.InputStream;
 import java.lang.reflect.Type;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.text.MessageFormat;
 import java.util.Map;
 import java.util.Objects;
+import java.util.stream.Stream;
 
 /**
  * Implementation of {@link  RestClient}
  */
 @Log4j2
 public class RestClientImpl implements RestClient {
-    private RequestSpecification requestSpecification;
+    private static final ObjectMapper OBJECT_MAPPER = JsonUtils.getObjectMapper();
+    private static final String ACCESS_TOKEN_HEADER = "X-Access-Token";
+
+    private final HttpLogger httpLog = new HttpLogger(log);
+    private volatile RequestSpecification requestSpecification;
 
     public RestClientImpl(String baseUrl, @Nullable  String accessToken) {
         requestSpecification = getRequestSpecification(baseUrl, accessToken, ContentType.JSON);
@@ -51,9 +73,46 @@ public class RestClientImpl implements RestClient {
         requestSpecification = getRequestSpecification(baseUrl, accessToken, contentType);
     }
 
+    /**
+     * Configures logging of requests performed by the client
+     * @param settings logging settings, use {@link HttpLogSettings#disabled()} to switch logging off
+     */
+    public void setLogSettings(HttpLogSettings settings) {
+        httpLog.setSettings(settings);
+    }
+
+    /**
+     * Configures compression of responses and request bodies of the client
+     * @param settings compression settings
+     */
+    public void setCompression(CompressionSettings settings) {
+        requestSpecification = settings.apply(RestAssured.given().spec(requestSpecification));
+    }
+
+    /**
+     * Records responses of the client to the cassette or replays them from it
+     * @param cassette cassette opened for record or replay
+     */
+    public void setCassette(Cassette cassette) {
+        requestSpecification = RestAssured.given().spec(requestSpecification)
+                .noFiltersOfType(CassetteFilter.class)
+                .filter(cassette.filter());
+    }
+
+    /**
+     * Token of the provider is set to every request instead of static access token of the client
+     * @param tokenProvider provider of access token
+     */
+    public void setTokenProvider(TokenProvider tokenProvider) {
+        requestSpecification = RestAssured.given().spec(requestSpecification)
+                .noFiltersOfType(TokenFilter.class)
+                .filter(new TokenFilter(tokenProvider, ACCESS_TOKEN_HEADER));
+    }
+
     @Override
     public <Response> Response get(String path, @Nullable Map<String, String> pathParams, Type type, int statusCode) {
-        log.info(MessageFormat.format("Performing GET request on {0} with path params {1}", path, pathParams));
+        httpLog.request(() -> MessageFormat.format("Performing GET request on {0} with path params {1}",
+                path, pathParams));
 
         return extractResult(
                 prepareRequestSpecification(pathParams)
@@ -70,8 +129,8 @@ public class RestClientImpl implements RestClient {
                                              Request body,
                                              Type type,
                                              int statusCode) {
-        log.info(MessageFormat.format("Performing POST request on {0} with path params {1} with body {2}",
-                path, pathParams, JsonUtils.toJson(body))
+        httpLog.request(() -> MessageFormat.format("Performing POST request on {0} with path params {1} with body {2}",
+                path, pathParams, httpLog.truncate(JsonUtils.toJson(body)))
         );
 
         var rs = prepareRequestSpecification(pathParams);
@@ -95,9 +154,9 @@ public class RestClientImpl implements RestClient {
                                             int statusCode,
                                             @Nullable Map<String, String> headers) {
 
-        log.info(MessageFormat.format(
+        httpLog.request(() -> MessageFormat.format(
                 "Performing PUT request on {0} with path params {1} with body {2}",
-                path, pathParams, JsonUtils.toJson(body))
+                path, pathParams, httpLog.truncate(JsonUtils.toJson(body)))
         );
         RequestSpecification requestSpec = prepareRequestSpecification(pathParams);
 
@@ -116,7 +175,7 @@ public class RestClientImpl implements RestClient {
 
     @Override
     public void delete(String path, int statusCode, @Nullable Map<String, String> headers) {
-        log.info(MessageFormat.format("Performing DELETE request on {0}", path));
+        httpLog.request(() -> MessageFormat.format("Performing DELETE request on {0}", path));
 
         if (headers != null) {
             prepareRequestSpecification().headers(headers);
@@ -128,11 +187,168 @@ public class RestClientImpl implements RestClient {
                 .statusCode(statusCode);
     }
 
+    /**
+     * GET HTTP request which response is top-level JSON array parsed incrementally while stream is consumed
+     * @param path path to REST API
+     * @param pathParams params for path of REST API
+     * @param elementType type of array element
+     * @param statusCode expected request status code
+     * @return stream of array elements, should be closed to release connection
+     * @param <T> element type
+     */
+    public <T> Stream<T> getAsStream(String path,
+                                     @Nullable Map<String, String> pathParams,
+                                     Type elementType,
+                                     int statusCode) {
+        httpLog.request(() -> MessageFormat.format("Performing streaming GET request on {0} with path params {1}",
+                path, pathParams));
+
+        return extractStream(
+                RequestSpecifications.unbuffered(prepareRequestSpecification(pathParams))
+                        .get(path)
+                        .then()
+                        .statusCode(statusCode)
+                        .extract(),
+                elementType);
+    }
+
+    /**
+     * POST HTTP request which response is top-level JSON array parsed incrementally while stream is consumed
+     * @param path path to REST API
+     * @param pathParams params for path of REST API
+     * @param body request body
+     * @param elementType type of array element
+     * @param statusCode expected request status code
+     * @return stream of array elements, should be closed to release connection
+     * @param <Request> request type
+     * @param <T> element type
+     */
+    public <Request, T> Stream<T> postAsStream(String path,
+                                               @Nullable Map<String, String> pathParams,
+                                               Request body,
+                                               Type elementType,
+                                               int statusCode) {
+        httpLog.request(() -> MessageFormat.format(
+                "Performing streaming POST request on {0} with path params {1} with body {2}",
+                path, pathParams, httpLog.truncate(JsonUtils.toJson(body)))
+        );
+
+        var rs = RequestSpecifications.unbuffered(prepareRequestSpecification(pathParams));
+
+        if (!Objects.isNull(body))
+            rs.body(body);
+
+        return extractStream(rs
+                        .post(path)
+                        .then()
+                        .statusCode(statusCode)
+                        .extract(),
+                elementType);
+    }
+
+    /**
+     * POST HTTP request which body is read from the stream by chunks (chunked transfer encoding),
+     * so the content is never held in memory
+     * @param path path to REST API
+     * @param pathParams params for path of REST API
+     * @param body request body, it is closed after request
+     * @param contentType content type of request body
+     * @param type response type
+     * @param statusCode expected request status code
+     * @param listener upload progress listener
+     * @return response
+     * @param <Response> response type
+     */
+    public <Response> Response upload(String path,
+                                      @Nullable Map<String, String> pathParams,
+                                      InputStream body,
+                                      ContentType contentType,
+                                      Type type,
+                                      int statusCode,
+                                      @Nullable TransferListener listener) {
+        return upload(path, pathParams, body, -1, contentType, type, statusCode, listener);
+    }
+
+    /**
+     * POST HTTP request which body is streamed from the file
+     * @see #upload(String, Map, InputStream, ContentType, Type, int, TransferListener)
+     */
+    @SneakyThrows
+    public <Response> Response upload(String path,
+                                      @Nullable Map<String, String> pathParams,
+                                      Path file,
+                                      ContentType contentType,
+                                      Type type,
+                                      int statusCode,
+                                      @Nullable TransferListener listener) {
+        return upload(path, pathParams, Files.newInputStream(file), Files.size(file), contentType, type,
+                statusCode, listener);
+    }
+
+    /**
+     * GET HTTP request which response body is written to the file through {@link java.nio.channels.FileChannel}
+     * without reading it into memory, file is created or truncated
+     * @param path path to REST API
+     * @param pathParams params for path of REST API
+     * @param target file to write response body
+     * @param statusCode expected request status code
+     * @param listener download progress listener
+     * @return count of written bytes
+     */
+    @SneakyThrows
+    public long download(String path,
+                         @Nullable Map<String, String> pathParams,
+                         Path target,
+                         int statusCode,
+                         @Nullable TransferListener listener) {
+        httpLog.request(() -> MessageFormat.format("Performing download GET request on {0} with path params {1} to {2}",
+                path, pathParams, target));
+
+        var response = RequestSpecifications.unbuffered(prepareRequestSpecification(pathParams))
+                .get(path)
+                .then()
+                .statusCode(statusCode)
+                .extract();
+
+        var contentLength = response.header("Content-Length");
+        long totalBytes = contentLength == null ? -1 : Long.parseLong(contentLength);
+        try (InputStream body = response.asInputStream()) {
+            return FileTransfers.copy(body, target, totalBytes,
+                    Objects.requireNonNullElse(listener, TransferListener.NONE));
+        }
+    }
+
+    @SneakyThrows
+    private <Response> Response upload(String path,
+                                       @Nullable Map<String, String> pathParams,
+                                       InputStream body,
+                                       long totalBytes,
+                                       ContentType contentType,
+                                       Type type,
+                                       int statusCode,
+                                       @Nullable TransferListener listener) {
+        httpLog.request(() -> MessageFormat.format("Performing upload POST request on {0} with path params {1}",
+                path, pathParams));
+
+        try (var content = new ProgressInputStream(body, totalBytes,
+                Objects.requireNonNullElse(listener, TransferListener.NONE))) {
+            return extractResult(RequestSpecifications.unbuffered(prepareRequestSpecification(pathParams))
+                            .contentType(contentType)
+                            .body(content)
+                            .post(path)
+                            .then()
+                            .statusCode(statusCode)
+                            .extract(),
+                    type);
+        }
+    }
+
     public RequestSpecification prepareRequestSpecification(@Nullable Map<String, String> pathParams) {
+        var request = RestAssured.given().spec(requestSpecification);
         if (pathParams != null && !pathParams.isEmpty())
-            requestSpecification.pathParams(pathParams);
+            request.pathParams(pathParams);
 
-        return RestAssured.given().spec(requestSpecification);
+        return request;
     }
 
     public RequestSpecification prepareRequestSpecification() {
@@ -147,6 +363,10 @@ public class RestClientImpl implements RestClient {
         return response.as(type);
     }
 
+    public <T> Stream<T> extractStream(ExtractableResponse response, Type elementType) {
+        return JsonArrayStream.of(response.asInputStream(), elementType);
+    }
+
     private RequestSpecification getRequestSpecification(String baseUrl, @Nullable String accessToken, ContentType contentType) {
         var requestSpecBuilder =  new RequestSpecBuilder()
                 .setConfig(
@@ -154,9 +374,7 @@ public class RestClientImpl implements RestClient {
                                 .config()
                                 .objectMapperConfig(
                                         new ObjectMapperConfig().jackson2ObjectMapperFactory(
-                                                (cls, charset) -> new ObjectMapper()
-                                                        .configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false)
-                                                        .configure(DeserializationFeature.FAIL_ON_NULL_CREATOR_PROPERTIES, false)
+                                                (cls, charset) -> OBJECT_MAPPER
                                         )
                                 )
                                 .logConfig(
@@ -165,13 +383,19 @@ public class RestClientImpl implements RestClient {
                                                 .enableLoggingOfRequestAndResponseIfValidationFails()
                                                 .enablePrettyPrinting(true)
                                 )
+                                .httpClient(HttpConnectionPool.httpClientConfig(baseUrl))
                 )
                 .setContentType(contentType)
-                .setBaseUri(baseUrl);
+                .setBaseUri(baseUrl)
+                .addFilter(new MetricsFilter());
 
         if (!Objects.isNull(accessToken))
-            requestSpecBuilder.addHeader("X-Access-Token", accessToken);
+            requestSpecBuilder.addHeader(ACCESS_TOKEN_HEADER, accessToken);
+
+        var cassette = Cassette.global();
+        if (cassette != null)
+            requestSpecBuilder.addFilter(cassette.filter());
 
-        return requestSpecBuilder.build().given();
+        return CompressionSettings.defaults().apply(requestSpecBuilder.build().given());
     }
 }
@@ -18,6 +18,11 @@ package platform.qa.rest.client.impl;
 
 import io.restassured.http.ContentType;
 import platform.qa.entities.Service;
+import platform.qa.rest.load.LoadGenerator;
+import platform.qa.rest.load.LoadProfile;
+import platform.qa.rest.load.LoadReport;
+
+import java.util.function.Consumer;
 
 /**
  * Preparation of requests by {@link platform.qa.rest.client.RestClient} that allows
@@ -74,4 +79,48 @@ public class RestClientProxy {
     public RestClientImpl negativeRequest(ContentType contentType) {
         return new RestClientImpl(service.getUrl(), null, contentType);
     }
+
+    /**
+     * Preparation for positive non-blocking HTTP requests
+     * @return {@link AsyncRestClientImpl} that ready for positive HTTP requests
+     */
+    public AsyncRestClientImpl positiveRequestAsync() {
+        return new AsyncRestClientImpl(service.getUrl(), service.getUser().getToken());
+    }
+
+    /**
+     * Preparation for positive non-blocking HTTP requests with specified content type
+     * @param contentType content type for request
+     * @return {@link AsyncRestClientImpl} that ready for positive HTTP requests
+     */
+    public AsyncRestClientImpl positiveRequestAsync(ContentType contentType) {
+        return new AsyncRestClientImpl(service.getUrl(), service.getUser().getToken(), contentType);
+    }
+
+    /**
+     * Preparation for negative non-blocking HTTP requests
+     * @return {@link AsyncRestClientImpl} that ready for negative HTTP requests
+     */
+    public AsyncRestClientImpl negativeRequestAsync() {
+        return new AsyncRestClientImpl(service.getUrl(), null);
+    }
+
+    /**
+     * Preparation for negative non-blocking HTTP requests with specified content type
+     * @param contentType content type for request
+     * @return {@link AsyncRestClientImpl} that ready for negative HTTP requests
+     */
+    public AsyncRestClientImpl negativeRequestAsync(ContentType contentType) {
+        return new AsyncRestClientImpl(service.getUrl(), null, contentType);
+    }
+
+    /**
+     * Generates load by single positive client shared by all virtual users
+     * @param profile profile of the load
+     * @param scenario single iteration of the load
+     * @return report of the load
+     */
+    public LoadReport load(LoadProfile profile, Consumer<RestClientImpl> scenario) {
+        return new LoadGenerator<>(positiveRequest()).run(profile, scenario);
+    }
 }
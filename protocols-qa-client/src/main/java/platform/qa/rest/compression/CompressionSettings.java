@@ -0,0 +1,79 @@
+/*
+ * Copyright 2022 EPAM Systems.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package platform.qa.rest.compression;
+
+import io.restassured.config.DecoderConfig;
+import io.restassured.config.RestAssuredConfig;
+import io.restassured.specification.RequestSpecification;
+import io.restassured.specification.SpecificationQuerier;
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * Compression settings of the client.
+ * Responses are requested compressed ({@code Accept-Encoding: gzip,deflate}) and decoded transparently,
+ * could be switched off by system property {@code qa.http.compression=false}.
+ * Request bodies are sent gzipped only when enabled, e.g. by system property {@code qa.http.gzipRequests=true},
+ * as not every service accepts {@code Content-Encoding: gzip}.
+ */
+@Getter
+@Builder(toBuilder = true)
+public class CompressionSettings {
+
+    @Builder.Default
+    private boolean compressResponses = Boolean.parseBoolean(System.getProperty("qa.http.compression", "true"));
+
+    @Builder.Default
+    private boolean gzipRequests = Boolean.getBoolean("qa.http.gzipRequests");
+
+    /**
+     * Request bodies smaller than specified size in bytes are sent as is
+     */
+    @Builder.Default
+    private int minRequestSize = 1024;
+
+    public static CompressionSettings defaults() {
+        return builder().build();
+    }
+
+    public static CompressionSettings disabled() {
+        return builder().compressResponses(false).gzipRequests(false).build();
+    }
+
+    public DecoderConfig decoderConfig() {
+        return compressResponses
+                ? DecoderConfig.decoderConfig().contentDecoders(DecoderConfig.ContentDecoder.GZIP,
+                DecoderConfig.ContentDecoder.DEFLATE)
+                : DecoderConfig.decoderConfig().noContentDecoders();
+    }
+
+    /**
+     * Applies the settings to the specification
+     * @param specification request specification
+     * @return the same specification
+     */
+    public RequestSpecification apply(RequestSpecification specification) {
+        var config = SpecificationQuerier.query(specification).getConfig();
+        specification.config((config == null ? RestAssuredConfig.config() : config).decoderConfig(decoderConfig()))
+                .noFiltersOfType(GzipRequestFilter.class);
+
+        if (gzipRequests) {
+            specification.filter(new GzipRequestFilter(minRequestSize));
+        }
+        return specification;
+    }
+}
@@ -0,0 +1,79 @@
+/*
+ * Copyright 2022 EPAM Systems.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package platform.qa.rest.compression;
+
+import io.restassured.filter.FilterContext;
+import io.restassured.filter.OrderedFilter;
+import io.restassured.response.Response;
+import io.restassured.specification.FilterableRequestSpecification;
+import io.restassured.specification.FilterableResponseSpecification;
+import lombok.SneakyThrows;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Rest Assured filter that sends request body gzipped with {@code Content-Encoding: gzip} header.
+ * Filter runs before other filters, so metrics record size of the body sent over the wire.
+ */
+public class GzipRequestFilter implements OrderedFilter {
+
+    static final String CONTENT_ENCODING = "Content-Encoding";
+
+    private final int minRequestSize;
+
+    public GzipRequestFilter(int minRequestSize) {
+        this.minRequestSize = minRequestSize;
+    }
+
+    @Override
+    public Response filter(FilterableRequestSpecification requestSpec, FilterableResponseSpecification responseSpec,
+                           FilterContext ctx) {
+        var body = bodyBytes(requestSpec.getBody());
+        if (body != null && body.length >= minRequestSize
+                && !requestSpec.getHeaders().hasHeaderWithName(CONTENT_ENCODING)) {
+            requestSpec.header(CONTENT_ENCODING, "gzip");
+            requestSpec.body(gzip(body));
+        }
+        return ctx.next(requestSpec, responseSpec);
+    }
+
+    @Override
+    public int getOrder() {
+        return HIGHEST_PRECEDENCE;
+    }
+
+    private static byte[] bodyBytes(Object body) {
+        if (body instanceof String) {
+            return ((String) body).getBytes(StandardCharsets.UTF_8);
+        }
+        if (body instanceof byte[]) {
+            return (byte[]) body;
+        }
+        return null;
+    }
+
+    @SneakyThrows
+    static byte[] gzip(byte[] body) {
+        var out = new ByteArrayOutputStream(Math.max(64, body.length / 4));
+        try (var gzip = new GZIPOutputStream(out)) {
+            gzip.write(body);
+        }
+        return out.toByteArray();
+    }
+}
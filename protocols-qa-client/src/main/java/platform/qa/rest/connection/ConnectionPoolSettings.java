@@ -0,0 +1,51 @@
+/*
+ * Copyright 2022 EPAM Systems.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package platform.qa.rest.connection;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.Duration;
+
+/**
+ * Settings of {@link HttpConnectionPool}
+ */
+@Getter
+@Builder(toBuilder = true)
+public class ConnectionPoolSettings {
+
+    @Builder.Default
+    private int maxPerRoute = Integer.getInteger("qa.http.maxPerRoute", 50);
+
+    @Builder.Default
+    private int maxTotal = Integer.getInteger("qa.http.maxTotal", 200);
+
+    /**
+     * Keep-alive duration of the connection when server does not specify it by Keep-Alive header
+     */
+    @Builder.Default
+    private Duration keepAlive = Duration.ofSeconds(30);
+
+    /**
+     * Connections idle longer than specified duration are closed by evictor
+     */
+    @Builder.Default
+    private Duration idleTimeout = Duration.ofSeconds(60);
+
+    @Builder.Default
+    private Duration evictionInterval = Duration.ofSeconds(15);
+}
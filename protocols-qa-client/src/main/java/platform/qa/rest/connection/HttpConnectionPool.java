@@ -0,0 +1,128 @@
+/*
+ * Copyright 2022 EPAM Systems.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package platform.qa.rest.connection;
+
+import io.restassured.config.HttpClientConfig;
+import lombok.extern.log4j.Log4j2;
+
+import java.net.URI;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import org.apache.http.impl.client.DefaultConnectionKeepAliveStrategy;
+import org.apache.http.impl.client.DefaultHttpClient;
+import org.apache.http.impl.conn.PoolingClientConnectionManager;
+import org.apache.http.impl.conn.SchemeRegistryFactory;
+
+/**
+ * Process-wide pool of HTTP connections shared by all REST and SOAP clients.
+ * Connection manager is created once per base URI, so TCP and TLS connections
+ * to the service are kept alive and reused between requests and client instances.
+ * <p>
+ * Example:
+ * <code>
+ *     RestAssuredConfig.config().httpClient(HttpConnectionPool.httpClientConfig(service.getUrl()));
+ * </code>
+ */
+@Log4j2
+@SuppressWarnings("deprecation")
+public final class HttpConnectionPool {
+
+    private static final Map<String, PoolingClientConnectionManager> MANAGERS = new ConcurrentHashMap<>();
+    private static volatile ConnectionPoolSettings settings = ConnectionPoolSettings.builder().build();
+    private static volatile ScheduledExecutorService evictor;
+
+    private HttpConnectionPool() {
+        throw new IllegalStateException("This is utility class!");
+    }
+
+    /**
+     * Sets settings for connection managers created after this call
+     * @param poolSettings settings of the pool
+     */
+    public static void configure(ConnectionPoolSettings poolSettings) {
+        settings = poolSettings;
+    }
+
+    /**
+     * Rest Assured http client configuration that uses pooled connections of the base URI
+     * @param baseUri base URI of the service
+     * @return http client configuration
+     */
+    public static HttpClientConfig httpClientConfig(String baseUri) {
+        var manager = connectionManager(baseUri);
+        var keepAlive = settings.getKeepAlive().toMillis();
+
+        return HttpClientConfig.httpClientConfig()
+                .httpClientFactory(() -> {
+                    var client = new DefaultHttpClient(manager);
+                    client.setKeepAliveStrategy((response, context) -> {
+                        long duration = DefaultConnectionKeepAliveStrategy.INSTANCE.getKeepAliveDuration(response, context);
+                        return duration > 0 ? duration : keepAlive;
+                    });
+                    return client;
+                });
+    }
+
+    static PoolingClientConnectionManager connectionManager(String baseUri) {
+        return MANAGERS.computeIfAbsent(key(baseUri), key -> {
+            var current = settings;
+            var manager = new PoolingClientConnectionManager(SchemeRegistryFactory.createSystemDefault());
+            manager.setDefaultMaxPerRoute(current.getMaxPerRoute());
+            manager.setMaxTotal(current.getMaxTotal());
+            startEvictor(current);
+            log.info("Created HTTP connection pool for {}", key);
+            return manager;
+        });
+    }
+
+    /**
+     * Closes all pooled connections
+     */
+    public static synchronized void shutdown() {
+        MANAGERS.values().forEach(PoolingClientConnectionManager::shutdown);
+        MANAGERS.clear();
+        if (evictor != null) {
+            evictor.shutdownNow();
+            evictor = null;
+        }
+    }
+
+    private static synchronized void startEvictor(ConnectionPoolSettings current) {
+        if (evictor != null) {
+            return;
+        }
+
+        evictor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            var thread = new Thread(runnable, "qa-http-connection-evictor");
+            thread.setDaemon(true);
+            return thread;
+        });
+        long interval = current.getEvictionInterval().toMillis();
+        evictor.scheduleWithFixedDelay(() -> MANAGERS.values().forEach(manager -> {
+            manager.closeExpiredConnections();
+            manager.closeIdleConnections(settings.getIdleTimeout().toMillis(), TimeUnit.MILLISECONDS);
+        }), interval, interval, TimeUnit.MILLISECONDS);
+    }
+
+    private static String key(String baseUri) {
+        var uri = URI.create(baseUri);
+        return uri.getAuthority() == null ? baseUri : uri.getScheme() + "://" + uri.getAuthority();
+    }
+}
@@ -0,0 +1,117 @@
+/*
+ * Copyright 2022 EPAM Systems.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package platform.qa.rest.headers;
+
+import lombok.Getter;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Immutable set of mandatory and non-mandatory headers of data factory requests.
+ * Profile could be created once and shared by many clients, modifications return new profile.
+ * <p>
+ * Example:
+ * <code>
+ *     HeaderProfile profile = HeaderProfile.random().withBusinessProcessInstanceId(processInstanceId);
+ *     new RestApiClient(dataFactory, profile);
+ * </code>
+ */
+@Getter
+public final class HeaderProfile {
+
+    public static final String X_SOURCE_SYSTEM = "X-Source-System";
+    public static final String X_SOURCE_APPLICATION = "X-Source-Application";
+    public static final String X_SOURCE_BUSINESS_PROCESS = "X-Source-Business-Process";
+    public static final String X_SOURCE_BUSINESS_ACTIVITY = "X-Source-Business-Activity";
+    public static final String X_SOURCE_BUSINESS_PROCESS_DEFINITION_ID = "X-Source-Business-Process-Definition-Id";
+    public static final String X_SOURCE_BUSINESS_PROCESS_INSTANCE_ID = "X-Source-Business-Process-Instance-Id";
+    public static final String X_SOURCE_ROOT_BUSINESS_PROCESS_INSTANCE_ID = "X-Source-Root-Business-Process-Instance-Id";
+    public static final String X_SOURCE_BUSINESS_ACTIVITY_INSTANCE_ID = "X-Source-Business-Activity-Instance-Id";
+    public static final String X_DIGITAL_SIGNATURE = "X-Digital-Signature";
+    public static final String X_DIGITAL_SIGNATURE_DERIVED = "X-Digital-Signature-Derived";
+    public static final String X_XSRF_TOKEN = "X-XSRF-TOKEN";
+    public static final String COOKIE = "Cookie";
+
+    private static final int RANDOM_VALUE_LENGTH = 10;
+
+    private final Map<String, String> mandatory;
+    private final Map<String, String> nonMandatory;
+    private final Map<String, String> all;
+
+    private HeaderProfile(Map<String, String> mandatory, Map<String, String> nonMandatory) {
+        this.mandatory = Map.copyOf(mandatory);
+        this.nonMandatory = Map.copyOf(nonMandatory);
+
+        var allHeaders = new HashMap<>(mandatory);
+        allHeaders.putAll(nonMandatory);
+        this.all = Map.copyOf(allHeaders);
+    }
+
+    /**
+     * Profile with random values of source system, business process and digital signature headers
+     */
+    public static HeaderProfile random() {
+        var mandatory = new HashMap<String, String>();
+        mandatory.put(X_SOURCE_SYSTEM, randomLetters());
+        mandatory.put(X_SOURCE_APPLICATION, randomLetters());
+        mandatory.put(X_XSRF_TOKEN, "Token");
+        mandatory.put(COOKIE, "XSRF-TOKEN=Token");
+        mandatory.put(X_DIGITAL_SIGNATURE, randomLetters());
+        mandatory.put(X_DIGITAL_SIGNATURE_DERIVED, randomLetters());
+
+        var nonMandatory = new HashMap<String, String>();
+        nonMandatory.put(X_SOURCE_BUSINESS_PROCESS, randomLetters());
+        nonMandatory.put(X_SOURCE_BUSINESS_ACTIVITY, randomLetters());
+        nonMandatory.put(X_SOURCE_BUSINESS_PROCESS_DEFINITION_ID, randomLetters());
+        nonMandatory.put(X_SOURCE_BUSINESS_ACTIVITY_INSTANCE_ID, UUID.randomUUID().toString());
+
+        String processInstanceId = UUID.randomUUID().toString();
+        nonMandatory.put(X_SOURCE_BUSINESS_PROCESS_INSTANCE_ID, processInstanceId);
+        nonMandatory.put(X_SOURCE_ROOT_BUSINESS_PROCESS_INSTANCE_ID, processInstanceId);
+
+        return new HeaderProfile(mandatory, nonMandatory);
+    }
+
+    public HeaderProfile withDigitalSignature(String digitalSignature, String digitalSignatureDerived) {
+        var changed = new HashMap<>(mandatory);
+        changed.put(X_DIGITAL_SIGNATURE, digitalSignature);
+        changed.put(X_DIGITAL_SIGNATURE_DERIVED, digitalSignatureDerived);
+        return new HeaderProfile(changed, nonMandatory);
+    }
+
+    public HeaderProfile withBusinessProcessInstanceId(String businessProcessInstanceId) {
+        var changed = new HashMap<>(nonMandatory);
+        changed.put(X_SOURCE_BUSINESS_PROCESS_INSTANCE_ID, businessProcessInstanceId);
+        changed.put(X_SOURCE_ROOT_BUSINESS_PROCESS_INSTANCE_ID, businessProcessInstanceId);
+        return new HeaderProfile(mandatory, changed);
+    }
+
+    /**
+     * Random lowercase latin letters, cheap replacement of {@code Faker.letterify("??????????")}
+     */
+    public static String randomLetters() {
+        var random = ThreadLocalRandom.current();
+        var letters = new char[RANDOM_VALUE_LENGTH];
+        for (int i = 0; i < letters.length; i++) {
+            letters[i] = (char) ('a' + random.nextInt(26));
+        }
+        return new String(letters);
+    }
+}
@@ -0,0 +1,200 @@
+/*
+ * Copyright 2022 EPAM Systems.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package platform.qa.rest.load;
+
+import lombok.extern.log4j.Log4j2;
+import platform.qa.rest.metrics.LatencyHistogram;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Consumer;
+
+/**
+ * Generates load by the client according to {@link LoadProfile}. Scenario is performed by many threads
+ * with the same client, so the client must be thread-safe. Failed iteration is the one that threw
+ * exception or assertion error, e.g. because of unexpected status code.
+ * <p>
+ * Example:
+ * <code>
+ *     var report = new LoadGenerator&lt;&gt;(new RestClientProxy(service).positiveRequest())
+ *             .run(LoadProfile.openModel(50, Duration.ofMinutes(1)),
+ *                     client -&gt; client.get("api/person/{id}", Map.of("id", id), Person.class, 200));
+ * </code>
+ */
+@Log4j2
+public class LoadGenerator<C> {
+
+    private static final AtomicInteger THREAD_COUNTER = new AtomicInteger();
+    private static final int MAX_ERROR_KINDS = 100;
+    private static final int MAX_ERROR_LENGTH = 200;
+
+    private final C client;
+
+    private final LongAdder total = new LongAdder();
+    private final LongAdder failures = new LongAdder();
+    private final Map<String, LongAdder> errors = new ConcurrentHashMap<>();
+    private final LatencyHistogram responseTime = new LatencyHistogram();
+    private final LatencyHistogram serviceTime = new LatencyHistogram();
+
+    public LoadGenerator(C client) {
+        this.client = client;
+    }
+
+    /**
+     * Performs scenario according to the profile, generator could be run only once
+     * @param profile profile of the load
+     * @param scenario single iteration of the load
+     * @return report of the load
+     */
+    public LoadReport run(LoadProfile profile, Consumer<C> scenario) {
+        log.info("Load {} is started for {}", profile.getModel(), profile.getDuration());
+        long start = System.nanoTime();
+
+        ExecutorService executor = Executors.newCachedThreadPool(runnable -> {
+            var thread = new Thread(runnable, "qa-load-" + THREAD_COUNTER.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        try {
+            if (profile.getModel() == LoadProfile.Model.OPEN) {
+                runOpenModel(profile, scenario, executor, start);
+            } else {
+                runClosedModel(profile, scenario, executor, start);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            log.warn("Load was interrupted, report contains finished requests only");
+        } finally {
+            executor.shutdownNow();
+        }
+
+        var errorCounts = new TreeMap<String, Long>();
+        errors.forEach((error, count) -> errorCounts.put(error, count.sum()));
+        var report = new LoadReport(total.sum(), failures.sum(), Duration.ofNanos(System.nanoTime() - start),
+                responseTime, serviceTime, errorCounts);
+        log.info("Load is finished: {}", report);
+        return report;
+    }
+
+    private void runOpenModel(LoadProfile profile, Consumer<C> scenario, ExecutorService executor, long start)
+            throws InterruptedException {
+        long end = start + profile.getDuration().toNanos();
+        int maxConcurrency = profile.getMaxConcurrency();
+        var permits = new Semaphore(maxConcurrency);
+
+        for (long arrival = 0; ; arrival++) {
+            long intendedStart = start + arrivalOffset(arrival, profile.getTargetRps(), profile.getRampUp());
+            if (intendedStart - end >= 0) {
+                break;
+            }
+            parkUntil(intendedStart);
+            // waiting for a free worker is a part of response time of the request
+            permits.acquire();
+            executor.execute(() -> {
+                try {
+                    iteration(scenario, intendedStart);
+                } finally {
+                    permits.release();
+                }
+            });
+        }
+        permits.acquire(maxConcurrency);
+    }
+
+    private void runClosedModel(LoadProfile profile, Consumer<C> scenario, ExecutorService executor, long start)
+            throws InterruptedException {
+        long end = start + profile.getDuration().toNanos();
+        int users = profile.getVirtualUsers();
+        long pacing = profile.getPacing().toNanos();
+        var finished = new Semaphore(0);
+
+        for (int user = 0; user < users; user++) {
+            long userStart = start + profile.getRampUp().toNanos() * user / users;
+            executor.execute(() -> {
+                try {
+                    parkUntil(userStart);
+                    long intendedStart = System.nanoTime();
+                    while (intendedStart - end < 0 && !Thread.currentThread().isInterrupted()) {
+                        iteration(scenario, intendedStart);
+                        if (pacing > 0) {
+                            intendedStart += pacing;
+                            parkUntil(intendedStart);
+                        } else {
+                            intendedStart = System.nanoTime();
+                        }
+                    }
+                } finally {
+                    finished.release();
+                }
+            });
+        }
+        finished.acquire(users);
+    }
+
+    private void iteration(Consumer<C> scenario, long intendedStart) {
+        long actualStart = System.nanoTime();
+        try {
+            scenario.accept(client);
+        } catch (RuntimeException | AssertionError e) {
+            failures.increment();
+            errors.computeIfAbsent(errorKey(e), key -> new LongAdder()).increment();
+        }
+        long finish = System.nanoTime();
+
+        total.increment();
+        responseTime.record(TimeUnit.NANOSECONDS.toMicros(finish - intendedStart));
+        serviceTime.record(TimeUnit.NANOSECONDS.toMicros(finish - actualStart));
+    }
+
+    private String errorKey(Throwable error) {
+        if (errors.size() >= MAX_ERROR_KINDS) {
+            return "other errors";
+        }
+        var key = error.getClass().getSimpleName() + ": " + error.getMessage();
+        return key.length() > MAX_ERROR_LENGTH ? key.substring(0, MAX_ERROR_LENGTH) : key;
+    }
+
+    /**
+     * Intended time of the arrival from the start of the load. During ramp-up rate grows linearly,
+     * so count of arrivals by time t is rate * t^2 / (2 * rampUp).
+     */
+    static long arrivalOffset(long arrival, double targetRps, Duration rampUp) {
+        double rampUpSeconds = rampUp.toNanos() / 1e9;
+        double rampUpArrivals = targetRps * rampUpSeconds / 2;
+
+        double seconds = arrival < rampUpArrivals
+                ? Math.sqrt(2 * rampUpSeconds * arrival / targetRps)
+                : rampUpSeconds + (arrival - rampUpArrivals) / targetRps;
+        return (long) (seconds * 1e9);
+    }
+
+    private static void parkUntil(long deadline) {
+        long remaining;
+        while ((remaining = deadline - System.nanoTime()) > 0 && !Thread.currentThread().isInterrupted()) {
+            LockSupport.parkNanos(remaining);
+        }
+    }
+}
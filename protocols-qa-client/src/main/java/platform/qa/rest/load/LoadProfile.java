@@ -0,0 +1,121 @@
+/*
+ * Copyright 2022 EPAM Systems.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package platform.qa.rest.load;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.Duration;
+
+/**
+ * Profile of generated load.
+ * <ul>
+ *     <li>open model - requests arrive at target rate regardless of response time of the service;</li>
+ *     <li>closed model - fixed count of virtual users perform requests one after another.</li>
+ * </ul>
+ * Rate of open model and count of users of closed model grow linearly during ramp-up.
+ * Builder throws {@link IllegalArgumentException} when rate, count of users or concurrency is not positive
+ * or duration is negative.
+ * <p>
+ * Example:
+ * <code>
+ *     LoadProfile.openModel(200, Duration.ofMinutes(5)).toBuilder().rampUp(Duration.ofSeconds(30)).build();
+ * </code>
+ */
+@Getter
+@Builder(toBuilder = true)
+public class LoadProfile {
+
+    public enum Model {
+        OPEN, CLOSED
+    }
+
+    @Builder.Default
+    private Model model = Model.OPEN;
+
+    /**
+     * Requests per second of open model
+     */
+    @Builder.Default
+    private double targetRps = 10;
+
+    /**
+     * Count of virtual users of closed model
+     */
+    @Builder.Default
+    private int virtualUsers = 10;
+
+    /**
+     * Intended interval between starts of iterations of virtual user, zero means iterations without pause.
+     * Latency of closed model is corrected for coordinated omission only when pacing is set.
+     */
+    @Builder.Default
+    private Duration pacing = Duration.ZERO;
+
+    @Builder.Default
+    private Duration rampUp = Duration.ZERO;
+
+    /**
+     * Duration of the load including ramp-up
+     */
+    @Builder.Default
+    private Duration duration = Duration.ofMinutes(1);
+
+    /**
+     * Max count of requests of open model performed at the same time
+     */
+    @Builder.Default
+    private int maxConcurrency = 256;
+
+    private LoadProfile(Model model, double targetRps, int virtualUsers, Duration pacing, Duration rampUp,
+                        Duration duration, int maxConcurrency) {
+        requirePositive("targetRps", targetRps);
+        requirePositive("virtualUsers", virtualUsers);
+        requirePositive("maxConcurrency", maxConcurrency);
+        requireNotNegative("pacing", pacing);
+        requireNotNegative("rampUp", rampUp);
+        requireNotNegative("duration", duration);
+
+        this.model = model;
+        this.targetRps = targetRps;
+        this.virtualUsers = virtualUsers;
+        this.pacing = pacing;
+        this.rampUp = rampUp;
+        this.duration = duration;
+        this.maxConcurrency = maxConcurrency;
+    }
+
+    public static LoadProfile openModel(double targetRps, Duration duration) {
+        return LoadProfile.builder().model(Model.OPEN).targetRps(targetRps).duration(duration).build();
+    }
+
+    public static LoadProfile closedModel(int virtualUsers, Duration duration) {
+        return LoadProfile.builder().model(Model.CLOSED).virtualUsers(virtualUsers).duration(duration).build();
+    }
+
+    private static void requirePositive(String name, double value) {
+        if (!(value > 0)) {
+            throw new IllegalArgumentException(name + " should be positive but was " + value);
+        }
+    }
+
+    private static void requireNotNegative(String name, Duration value) {
+        if (value == null || value.isNegative()) {
+            throw new IllegalArgumentException(name + " should not be negative but was " + value);
+        }
+    }
+}
@@ -0,0 +1,69 @@
+/*
+ * Copyright 2022 EPAM Systems.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package platform.qa.rest.load;
+
+import lombok.Getter;
+import platform.qa.rest.metrics.LatencyHistogram;
+
+import java.time.Duration;
+import java.util.Map;
+
+/**
+ * Result of generated load. Response time is measured from intended start of the request,
+ * so it includes time the request waited for a free worker (corrected for coordinated omission),
+ * service time is measured from actual start of the request.
+ */
+@Getter
+public class LoadReport {
+    private final long total;
+    private final long failures;
+    private final Duration elapsed;
+    private final LatencyHistogram responseTime;
+    private final LatencyHistogram serviceTime;
+    private final Map<String, Long> errors;
+
+    LoadReport(long total, long failures, Duration elapsed, LatencyHistogram responseTime,
+               LatencyHistogram serviceTime, Map<String, Long> errors) {
+        this.total = total;
+        this.failures = failures;
+        this.elapsed = elapsed;
+        this.responseTime = responseTime;
+        this.serviceTime = serviceTime;
+        this.errors = errors;
+    }
+
+    public double getAchievedRps() {
+        return elapsed.isZero() ? 0 : total * 1_000_000_000.0 / elapsed.toNanos();
+    }
+
+    public boolean hasFailures() {
+        return failures > 0;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("total: %d, failures: %d, rps: %.1f, response time ms p50/p90/p99/max: %s, "
+                        + "service time ms p50/p90/p99/max: %s, errors: %s",
+                total, failures, getAchievedRps(), percentiles(responseTime), percentiles(serviceTime), errors);
+    }
+
+    private static String percentiles(LatencyHistogram histogram) {
+        return String.format("%.1f/%.1f/%.1f/%.1f", histogram.getPercentile(50) / 1_000.0,
+                histogram.getPercentile(90) / 1_000.0, histogram.getPercentile(99) / 1_000.0,
+                histogram.getMax() / 1_000.0);
+    }
+}
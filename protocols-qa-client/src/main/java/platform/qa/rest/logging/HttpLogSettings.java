@@ -0,0 +1,52 @@
+/*
+ * Copyright 2022 EPAM Systems.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package platform.qa.rest.logging;
+
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * Settings of {@link HttpLogger}, defaults could be set by system properties
+ * {@code qa.http.log.enabled}, {@code qa.http.log.maxBodyBytes} and {@code qa.http.log.sampleRate}
+ */
+@Getter
+@Builder(toBuilder = true)
+public class HttpLogSettings {
+
+    @Builder.Default
+    private boolean enabled = Boolean.parseBoolean(System.getProperty("qa.http.log.enabled", "true"));
+
+    /**
+     * Bodies longer than specified count of bytes are truncated in log
+     */
+    @Builder.Default
+    private int maxBodyBytes = Integer.getInteger("qa.http.log.maxBodyBytes", 4096);
+
+    /**
+     * Only every N-th message of the client is logged
+     */
+    @Builder.Default
+    private int sampleRate = Integer.getInteger("qa.http.log.sampleRate", 1);
+
+    public static HttpLogSettings defaultSettings() {
+        return HttpLogSettings.builder().build();
+    }
+
+    public static HttpLogSettings disabled() {
+        return HttpLogSettings.builder().enabled(false).build();
+    }
+}
@@ -0,0 +1,150 @@
+/*
+ * Copyright 2022 EPAM Systems.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package platform.qa.rest.logging;
+
+import lombok.Getter;
+import lombok.Setter;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+import org.apache.logging.log4j.Logger;
+
+/**
+ * Logger of HTTP requests. Messages are built by supplier only when request is logged,
+ * so bodies are not serialized when logging is disabled or request is skipped by sampling.
+ * Sampling is decided once per request by {@link #request(Supplier)}, further lines of the request
+ * logged by {@link #info(Supplier)} in the same thread follow that decision until {@link #endRequest()}.
+ * <p>
+ * Example:
+ * <code>
+ *     httpLog.request(() -&gt; "POST " + path + " with body " + httpLog.truncate(JsonUtils.toJson(body)));
+ * </code>
+ */
+public class HttpLogger {
+
+    private static final String TRUNCATED = "...[truncated, %d bytes more]";
+
+    private final Logger logger;
+    private final AtomicLong requests = new AtomicLong();
+    private final ThreadLocal<Boolean> requestSampled = new ThreadLocal<>();
+
+    @Getter
+    @Setter
+    private volatile HttpLogSettings settings;
+
+    public HttpLogger(Logger logger) {
+        this(logger, HttpLogSettings.defaultSettings());
+    }
+
+    public HttpLogger(Logger logger, HttpLogSettings settings) {
+        this.logger = logger;
+        this.settings = settings;
+    }
+
+    public boolean isEnabled() {
+        return settings.isEnabled() && logger.isInfoEnabled();
+    }
+
+    /**
+     * Starts new request in the current thread: decides whether the request is selected by sampling
+     * and logs its first message
+     * @param message supplier of the message, called only when message is logged
+     */
+    public void request(Supplier<?> message) {
+        if (!isEnabled()) {
+            return;
+        }
+
+        boolean sampled = sample();
+        requestSampled.set(sampled);
+        if (sampled) {
+            logger.info(message);
+        }
+    }
+
+    /**
+     * Logs message of the current request if the request is selected by sampling,
+     * message outside of request is sampled on its own
+     * @param message supplier of the message, called only when message is logged
+     */
+    public void info(Supplier<?> message) {
+        if (!isEnabled()) {
+            return;
+        }
+
+        Boolean sampled = requestSampled.get();
+        if (sampled != null ? sampled : sample()) {
+            logger.info(message);
+        }
+    }
+
+    /**
+     * Finishes current request of the thread
+     */
+    public void endRequest() {
+        requestSampled.remove();
+    }
+
+    private boolean sample() {
+        int sampleRate = Math.max(1, settings.getSampleRate());
+        return sampleRate == 1 || requests.getAndIncrement() % sampleRate == 0;
+    }
+
+    /**
+     * Truncates value to max count of bytes in UTF-8 specified by settings
+     * @param value value to truncate
+     * @return truncated value
+     */
+    public String truncate(String value) {
+        return truncate(value, settings.getMaxBodyBytes());
+    }
+
+    public static String truncate(String value, int maxBytes) {
+        if (value == null || (long) value.length() * 3 <= maxBytes) {
+            return value;
+        }
+
+        int bytes = 0;
+        for (int i = 0; i < value.length(); i++) {
+            int length = utf8Length(value.charAt(i));
+            if (bytes + length > maxBytes) {
+                int end = i > 0 && Character.isHighSurrogate(value.charAt(i - 1)) ? i - 1 : i;
+                return value.substring(0, end) + String.format(TRUNCATED, remainingBytes(value, end));
+            }
+            bytes += length;
+        }
+        return value;
+    }
+
+    private static int utf8Length(char character) {
+        if (character < 0x80) {
+            return 1;
+        }
+        if (character < 0x800 || Character.isSurrogate(character)) {
+            return 2;
+        }
+        return 3;
+    }
+
+    private static long remainingBytes(String value, int from) {
+        long bytes = 0;
+        for (int i = from; i < value.length(); i++) {
+            bytes += utf8Length(value.charAt(i));
+        }
+        return bytes;
+    }
+}
@@ -0,0 +1,50 @@
+/*
+ * Copyright 2022 EPAM Systems.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package platform.qa.rest.logging;
+
+import io.restassured.filter.Filter;
+import io.restassured.filter.FilterContext;
+import io.restassured.response.Response;
+import io.restassured.specification.FilterableRequestSpecification;
+import io.restassured.specification.FilterableResponseSpecification;
+
+/**
+ * Rest Assured filter that logs responses by {@link HttpLogger}. Body of the response is read
+ * only when message is logged and is truncated according to the settings of the logger,
+ * responses that are read as stream should be logged without body.
+ */
+public class HttpLoggingFilter implements Filter {
+
+    private final HttpLogger httpLog;
+    private final boolean logResponseBody;
+
+    public HttpLoggingFilter(HttpLogger httpLog, boolean logResponseBody) {
+        this.httpLog = httpLog;
+        this.logResponseBody = logResponseBody;
+    }
+
+    @Override
+    public Response filter(FilterableRequestSpecification requestSpec, FilterableResponseSpecification responseSpec,
+                           FilterContext ctx) {
+        Response response = ctx.next(requestSpec, responseSpec);
+        httpLog.info(() -> logResponseBody
+                ? requestSpec.getMethod() + " " + requestSpec.getURI() + " -> " + response.getStatusLine() + "\n"
+                        + httpLog.truncate(response.asString())
+                : requestSpec.getMethod() + " " + requestSpec.getURI() + " -> " + response.getStatusLine());
+        return response;
+    }
+}
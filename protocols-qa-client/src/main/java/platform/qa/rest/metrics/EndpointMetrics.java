@@ -0,0 +1,108 @@
+/*
+ * Copyright 2022 EPAM Systems.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package platform.qa.rest.metrics;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Metrics of single endpoint collected by {@link InMemoryMetricsRegistry}
+ */
+public class EndpointMetrics {
+
+    private final LatencyHistogram latency = new LatencyHistogram();
+    private final Map<Integer, LongAdder> statusCodes = new ConcurrentHashMap<>();
+    private final LongAdder retries = new LongAdder();
+    private final LongAdder bytesOut = new LongAdder();
+    private final LongAdder bytesIn = new LongAdder();
+    private final LongAdder encodedBytes = new LongAdder();
+    private final LongAdder decodedBytes = new LongAdder();
+
+    void record(int statusCode, long durationNanos, long requestBytes, long responseBytes) {
+        latency.record(durationNanos / 1_000);
+        statusCodes.computeIfAbsent(statusCode, code -> new LongAdder()).increment();
+        if (requestBytes > 0) {
+            bytesOut.add(requestBytes);
+        }
+        if (responseBytes > 0) {
+            bytesIn.add(responseBytes);
+        }
+    }
+
+    void recordRetries(int count) {
+        retries.add(count);
+    }
+
+    void recordCompression(long encoded, long decoded) {
+        encodedBytes.add(encoded);
+        decodedBytes.add(decoded);
+    }
+
+    public LatencyHistogram getLatency() {
+        return latency;
+    }
+
+    public long getStatusCount(int statusCode) {
+        var counter = statusCodes.get(statusCode);
+        return counter == null ? 0 : counter.sum();
+    }
+
+    public long getRetries() {
+        return retries.sum();
+    }
+
+    public long getBytesOut() {
+        return bytesOut.sum();
+    }
+
+    public long getBytesIn() {
+        return bytesIn.sum();
+    }
+
+    /**
+     * Returns ratio of decoded to received size of compressed responses, 0 if no compressed response was recorded
+     */
+    public double getCompressionRatio() {
+        long encoded = encodedBytes.sum();
+        return encoded == 0 ? 0 : (double) decodedBytes.sum() / encoded;
+    }
+
+    /**
+     * Returns current values of the metrics, latencies are in milliseconds
+     */
+    public Map<String, Object> snapshot() {
+        var codes = new TreeMap<String, Long>();
+        statusCodes.forEach((code, counter) -> codes.put(String.valueOf(code), counter.sum()));
+
+        var values = new LinkedHashMap<String, Object>();
+        values.put("count", latency.getCount());
+        values.put("meanMs", latency.getMean() / 1_000);
+        values.put("p50Ms", latency.getPercentile(50) / 1_000.0);
+        values.put("p90Ms", latency.getPercentile(90) / 1_000.0);
+        values.put("p99Ms", latency.getPercentile(99) / 1_000.0);
+        values.put("maxMs", latency.getMax() / 1_000.0);
+        values.put("retries", getRetries());
+        values.put("bytesOut", getBytesOut());
+        values.put("bytesIn", getBytesIn());
+        values.put("compressionRatio", getCompressionRatio());
+        values.put("statusCodes", codes);
+        return values;
+    }
+}
@@ -0,0 +1,120 @@
+/*
+ * Copyright 2022 EPAM Systems.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package platform.qa.rest.metrics;
+
+import lombok.extern.log4j.Log4j2;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.regex.Pattern;
+
+/**
+ * Process-wide metrics of HTTP requests performed by REST and SOAP clients.
+ * Metrics of {@link InMemoryMetricsRegistry} are written as JSON at JVM shutdown to the file
+ * set by system property {@code qa.http.metrics.file} ({@code target/qa-http-metrics.json} by default),
+ * collection is switched off by {@code -Dqa.http.metrics.enabled=false}.
+ */
+@Log4j2
+public final class HttpMetrics {
+
+    private static final Pattern ID_SEGMENT = Pattern.compile(
+            "\\d+|[0-9a-fA-F]{8}-[0-9a-fA-F]{4}-[0-9a-fA-F]{4}-[0-9a-fA-F]{4}-[0-9a-fA-F]{12}");
+    private static final boolean ENABLED = Boolean.parseBoolean(System.getProperty("qa.http.metrics.enabled", "true"));
+
+    private static volatile MetricsRegistry registry = new InMemoryMetricsRegistry();
+
+    static {
+        if (ENABLED) {
+            Path file = Paths.get(System.getProperty("qa.http.metrics.file", "target/qa-http-metrics.json"));
+            Runtime.getRuntime().addShutdownHook(new Thread(() -> dump(file), "qa-http-metrics-dump"));
+        }
+    }
+
+    private HttpMetrics() {
+        throw new IllegalStateException("This is utility class!");
+    }
+
+    public static MetricsRegistry getRegistry() {
+        return registry;
+    }
+
+    public static void setRegistry(MetricsRegistry metricsRegistry) {
+        registry = metricsRegistry;
+    }
+
+    public static boolean isEnabled() {
+        return ENABLED;
+    }
+
+    /**
+     * Name of the endpoint used as metrics key: scheme, host and query are removed,
+     * numeric and UUID path segments are replaced by {@code {id}}
+     * @param method HTTP method
+     * @param path path or URL of the request, path templates are kept as is
+     * @return endpoint name, e.g. {@code GET /api/person/{id}}
+     */
+    public static String endpoint(String method, String path) {
+        String value = path == null ? "" : path;
+
+        int schemeEnd = value.indexOf("://");
+        if (schemeEnd >= 0) {
+            int pathStart = value.indexOf('/', schemeEnd + 3);
+            value = pathStart < 0 ? "" : value.substring(pathStart);
+        }
+        int queryStart = value.indexOf('?');
+        if (queryStart >= 0) {
+            value = value.substring(0, queryStart);
+        }
+
+        var name = new StringBuilder(method.length() + value.length() + 2).append(method).append(' ');
+        if (!value.startsWith("/")) {
+            name.append('/');
+        }
+        int start = 0;
+        while (start <= value.length()) {
+            int end = value.indexOf('/', start);
+            if (end < 0) {
+                end = value.length();
+            }
+            var segment = value.substring(start, end);
+            name.append(ID_SEGMENT.matcher(segment).matches() ? "{id}" : segment);
+            if (end < value.length()) {
+                name.append('/');
+            }
+            start = end + 1;
+        }
+        return name.toString();
+    }
+
+    static void dump(Path file) {
+        if (!(registry instanceof InMemoryMetricsRegistry) || ((InMemoryMetricsRegistry) registry).isEmpty()) {
+            return;
+        }
+
+        try {
+            if (file.getParent() != null) {
+                Files.createDirectories(file.getParent());
+            }
+            Files.write(file, ((InMemoryMetricsRegistry) registry).toJson().getBytes(StandardCharsets.UTF_8));
+        } catch (IOException e) {
+            log.warn("HTTP metrics were not written to {}: {}", file, e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,71 @@
+/*
+ * Copyright 2022 EPAM Systems.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package platform.qa.rest.metrics;
+
+import lombok.SneakyThrows;
+import platform.qa.rest.utils.JsonUtils;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Keeps metrics of endpoints in memory, could be exported to JSON
+ */
+public class InMemoryMetricsRegistry implements MetricsRegistry {
+
+    private final Map<String, EndpointMetrics> endpoints = new ConcurrentHashMap<>();
+
+    @Override
+    public void recordRequest(String endpoint, int statusCode, long durationNanos, long bytesOut, long bytesIn) {
+        endpoint(endpoint).record(statusCode, durationNanos, bytesOut, bytesIn);
+    }
+
+    @Override
+    public void recordRetries(String endpoint, int retries) {
+        endpoint(endpoint).recordRetries(retries);
+    }
+
+    @Override
+    public void recordCompression(String endpoint, long encodedBytes, long decodedBytes) {
+        endpoint(endpoint).recordCompression(encodedBytes, decodedBytes);
+    }
+
+    /**
+     * Returns metrics of the endpoint, metrics are created on first usage
+     * @param endpoint method and path template of the request
+     */
+    public EndpointMetrics endpoint(String endpoint) {
+        var metrics = endpoints.get(endpoint);
+        return metrics != null ? metrics : endpoints.computeIfAbsent(endpoint, key -> new EndpointMetrics());
+    }
+
+    public boolean isEmpty() {
+        return endpoints.isEmpty();
+    }
+
+    public void clear() {
+        endpoints.clear();
+    }
+
+    @SneakyThrows
+    public String toJson() {
+        var snapshot = new TreeMap<String, Object>();
+        endpoints.forEach((endpoint, metrics) -> snapshot.put(endpoint, metrics.snapshot()));
+        return JsonUtils.writerFor(TreeMap.class).withDefaultPrettyPrinter().writeValueAsString(snapshot);
+    }
+}
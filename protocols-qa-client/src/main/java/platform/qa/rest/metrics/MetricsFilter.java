@@ -0,0 +1,92 @@
+/*
+ * Copyright 2022 EPAM Systems.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package platform.qa.rest.metrics;
+
+import io.restassured.filter.Filter;
+import io.restassured.filter.FilterContext;
+import io.restassured.response.Response;
+import io.restassured.specification.FilterableRequestSpecification;
+import io.restassured.specification.FilterableResponseSpecification;
+
+import java.io.File;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Rest Assured filter that records latency, status code and body sizes of the request
+ * to {@link HttpMetrics#getRegistry()}. Size of the response is taken from {@code Content-Length}
+ * header, so streamed responses are not buffered. Compression ratio is recorded only for responses
+ * which Rest Assured buffers anyway to log them on validation failure.
+ */
+public class MetricsFilter implements Filter {
+
+    @Override
+    public Response filter(FilterableRequestSpecification requestSpec, FilterableResponseSpecification responseSpec,
+                           FilterContext ctx) {
+        if (!HttpMetrics.isEnabled()) {
+            return ctx.next(requestSpec, responseSpec);
+        }
+
+        var endpoint = HttpMetrics.endpoint(requestSpec.getMethod(), requestSpec.getUserDefinedPath());
+        long bytesOut = bodySize(requestSpec.getBody());
+        long start = System.nanoTime();
+        Response response;
+        try {
+            response = ctx.next(requestSpec, responseSpec);
+        } catch (RuntimeException e) {
+            HttpMetrics.getRegistry().recordRequest(endpoint, 0, System.nanoTime() - start, bytesOut, -1);
+            throw e;
+        }
+
+        long bytesIn = contentLength(response);
+        HttpMetrics.getRegistry().recordRequest(endpoint, response.statusCode(), System.nanoTime() - start,
+                bytesOut, bytesIn);
+        if (bytesIn > 0 && response.header("Content-Encoding") != null && isBuffered(requestSpec)) {
+            HttpMetrics.getRegistry().recordCompression(endpoint, bytesIn, response.asByteArray().length);
+        }
+        return response;
+    }
+
+    private static long bodySize(Object body) {
+        if (body instanceof String) {
+            return ((String) body).getBytes(StandardCharsets.UTF_8).length;
+        }
+        if (body instanceof byte[]) {
+            return ((byte[]) body).length;
+        }
+        if (body instanceof File) {
+            return ((File) body).length();
+        }
+        return -1;
+    }
+
+    private static boolean isBuffered(FilterableRequestSpecification requestSpec) {
+        var config = requestSpec.getConfig();
+        return config != null && config.getLogConfig().isLoggingOfRequestAndResponseIfValidationFailsEnabled();
+    }
+
+    private static long contentLength(Response response) {
+        var header = response.header("Content-Length");
+        if (header == null) {
+            return -1;
+        }
+        try {
+            return Long.parseLong(header.trim());
+        } catch (NumberFormatException e) {
+            return -1;
+        }
+    }
+}
@@ -0,0 +1,52 @@
+/*
+ * Copyright 2022 EPAM Systems.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package platform.qa.rest.metrics;
+
+/**
+ * Receives metrics of HTTP requests performed by the clients.
+ * Default implementation is {@link InMemoryMetricsRegistry}, custom implementation could be set by
+ * {@link HttpMetrics#setRegistry(MetricsRegistry)}, e.g. adapter to Micrometer {@code MeterRegistry}
+ * recording {@code Timer} tagged by endpoint and status code, and {@code DistributionSummary} of bytes.
+ */
+public interface MetricsRegistry {
+
+    /**
+     * Records finished request
+     * @param endpoint method and path template of the request, e.g. {@code GET /api/person/{id}}
+     * @param statusCode status code of the response, 0 if response was not received
+     * @param durationNanos duration of the request in nanoseconds
+     * @param bytesOut size of the request body, negative if unknown
+     * @param bytesIn size of the response body, negative if unknown
+     */
+    void recordRequest(String endpoint, int statusCode, long durationNanos, long bytesOut, long bytesIn);
+
+    /**
+     * Records retries performed before the final response of the endpoint was received
+     * @param endpoint method and path template of the request
+     * @param retries count of retries
+     */
+    void recordRetries(String endpoint, int retries);
+
+    /**
+     * Records sizes of compressed response body
+     * @param endpoint method and path template of the request
+     * @param encodedBytes size of the body received over the wire
+     * @param decodedBytes size of the decoded body
+     */
+    default void recordCompression(String endpoint, long encodedBytes, long decodedBytes) {
+    }
+}
@@ -0,0 +1,124 @@
+/*
+ * Copyright 2022 EPAM Systems.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package platform.qa.rest.retry;
+
+import lombok.Builder;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.Value;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Circuit breaker of the host. After specified count of consecutive failed calls
+ * requests to the host are rejected until open duration expires, so tests fail fast
+ * when service is down instead of waiting for it in every test. After that single trial call
+ * is let through, other calls are rejected until its outcome closes or opens the breaker again.
+ */
+public class CircuitBreaker {
+
+    private static final Map<Key, CircuitBreaker> BREAKERS = new ConcurrentHashMap<>();
+
+    public enum State {
+        CLOSED, OPEN, HALF_OPEN
+    }
+
+    @Getter
+    @Builder
+    @EqualsAndHashCode
+    public static class Settings {
+        @Builder.Default
+        private boolean enabled = true;
+
+        @Builder.Default
+        private int failureThreshold = 10;
+
+        @Builder.Default
+        private Duration openDuration = Duration.ofSeconds(30);
+    }
+
+    @Value
+    private static class Key {
+        String host;
+        Settings settings;
+    }
+
+    private final Settings settings;
+    private State state = State.CLOSED;
+    private int consecutiveFailures;
+    private long openedAt;
+    private boolean probeInFlight;
+
+    CircuitBreaker(Settings settings) {
+        this.settings = settings;
+    }
+
+    /**
+     * Returns circuit breaker of the host. Clients with equal settings share the breaker of the host,
+     * clients with different settings get separate breakers
+     * @param host host of the service
+     * @param settings settings of the breaker
+     * @return circuit breaker of the host
+     */
+    public static CircuitBreaker forHost(String host, Settings settings) {
+        return BREAKERS.computeIfAbsent(new Key(host, settings), key -> new CircuitBreaker(settings));
+    }
+
+    public static void resetAll() {
+        BREAKERS.clear();
+    }
+
+    /**
+     * @return true when the call could be performed, its outcome must be reported
+     * by {@link #onSuccess()} or {@link #onFailure()}
+     */
+    public synchronized boolean allowRequest() {
+        if (!settings.isEnabled() || state == State.CLOSED) {
+            return true;
+        }
+
+        if (state == State.OPEN && System.nanoTime() - openedAt >= settings.getOpenDuration().toNanos()) {
+            state = State.HALF_OPEN;
+        }
+        if (state == State.HALF_OPEN && !probeInFlight) {
+            probeInFlight = true;
+            return true;
+        }
+        return false;
+    }
+
+    public synchronized void onSuccess() {
+        consecutiveFailures = 0;
+        probeInFlight = false;
+        state = State.CLOSED;
+    }
+
+    public synchronized void onFailure() {
+        consecutiveFailures++;
+        if (state == State.HALF_OPEN || consecutiveFailures >= settings.getFailureThreshold()) {
+            state = State.OPEN;
+            openedAt = System.nanoTime();
+            probeInFlight = false;
+        }
+    }
+
+    public synchronized State getState() {
+        return state;
+    }
+}
@@ -0,0 +1,67 @@
+/*
+ * Copyright 2022 EPAM Systems.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package platform.qa.rest.retry;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Limits total count of retries performed during test run.
+ * Global budget size could be set by system property {@code qa.retry.budget}.
+ */
+public class RetryBudget {
+
+    private static final RetryBudget GLOBAL = new RetryBudget(Long.getLong("qa.retry.budget", 10_000L));
+
+    private final long capacity;
+    private final AtomicLong remaining;
+
+    public RetryBudget(long capacity) {
+        this.capacity = capacity;
+        this.remaining = new AtomicLong(capacity);
+    }
+
+    /**
+     * Budget shared by all clients of the test run
+     */
+    public static RetryBudget global() {
+        return GLOBAL;
+    }
+
+    public static RetryBudget unlimited() {
+        return new RetryBudget(Long.MAX_VALUE);
+    }
+
+    /**
+     * Takes one retry from the budget
+     * @return true if retry is allowed
+     */
+    public boolean tryAcquire() {
+        return remaining.getAndUpdate(value -> value > 0 ? value - 1 : 0) > 0;
+    }
+
+    public long getRemaining() {
+        return remaining.get();
+    }
+
+    public long getCapacity() {
+        return capacity;
+    }
+
+    public void reset() {
+        remaining.set(capacity);
+    }
+}
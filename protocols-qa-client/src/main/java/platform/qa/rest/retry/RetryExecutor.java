@@ -0,0 +1,100 @@
+/*
+ * Copyright 2022 EPAM Systems.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package platform.qa.rest.retry;
+
+import io.restassured.response.Response;
+import lombok.extern.log4j.Log4j2;
+import platform.qa.rest.exception.CircuitBreakerOpenException;
+
+import java.time.Duration;
+import java.util.function.Supplier;
+
+/**
+ * Performs request according to {@link RetryPolicy}. Retries stop when response is not retryable,
+ * when max elapsed time or retry budget is exhausted, the last response is returned in such case.
+ * Requests to the host with open {@link CircuitBreaker} are rejected with {@link CircuitBreakerOpenException}.
+ * Breaker is checked before the first attempt and updated once with the outcome of the whole call,
+ * so attempts of one call are limited only by the policy.
+ */
+@Log4j2
+public class RetryExecutor {
+
+    private final RetryPolicy policy;
+
+    public RetryExecutor(RetryPolicy policy) {
+        this.policy = policy;
+    }
+
+    public Response execute(String host, Supplier<Response> request) {
+        var breaker = CircuitBreaker.forHost(host, policy.getCircuitBreaker());
+        var listener = policy.getListener();
+        long deadline = System.nanoTime() + policy.getMaxElapsedTime().toNanos();
+        int attempt = 0;
+
+        if (!breaker.allowRequest()) {
+            listener.onCircuitOpen(host);
+            throw new CircuitBreakerOpenException(host);
+        }
+
+        while (true) {
+            Response response;
+            try {
+                response = request.get();
+            } catch (RuntimeException | Error e) {
+                breaker.onFailure();
+                throw e;
+            }
+            attempt++;
+
+            if (!policy.isRetryable(response)) {
+                breaker.onSuccess();
+                return response;
+            }
+
+            long remaining = deadline - System.nanoTime();
+            if (remaining <= 0 || !policy.getBudget().tryAcquire()) {
+                breaker.onFailure();
+                listener.onGiveUp(host, attempt, response);
+                return response;
+            }
+
+            var delay = policy.delayBefore(attempt, response);
+            if (delay.toNanos() > remaining) {
+                delay = Duration.ofNanos(remaining);
+            }
+
+            log.info("Service {} responded with {}, attempt {} will be retried in {} ms",
+                    host, response.statusCode(), attempt, delay.toMillis());
+            listener.onRetry(host, attempt, response, delay);
+
+            if (!sleep(delay)) {
+                breaker.onFailure();
+                return response;
+            }
+        }
+    }
+
+    private boolean sleep(Duration delay) {
+        try {
+            Thread.sleep(delay.toMillis());
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+}
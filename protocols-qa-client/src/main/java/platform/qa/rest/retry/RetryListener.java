@@ -0,0 +1,56 @@
+/*
+ * Copyright 2022 EPAM Systems.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package platform.qa.rest.retry;
+
+import io.restassured.response.Response;
+
+import java.time.Duration;
+
+/**
+ * Listener of events produced by {@link RetryExecutor}
+ */
+public interface RetryListener {
+
+    RetryListener NONE = new RetryListener() {
+    };
+
+    /**
+     * Called before waiting for the next attempt
+     * @param host host of the request
+     * @param attempt number of failed attempt starting from 1
+     * @param response response of failed attempt
+     * @param delay delay before next attempt
+     */
+    default void onRetry(String host, int attempt, Response response, Duration delay) {
+    }
+
+    /**
+     * Called when request was not retried anymore because of exhausted time or budget
+     * @param host host of the request
+     * @param attempts count of performed attempts
+     * @param response response of the last attempt
+     */
+    default void onGiveUp(String host, int attempts, Response response) {
+    }
+
+    /**
+     * Called when circuit breaker of the host rejected request
+     * @param host host of the request
+     */
+    default void onCircuitOpen(String host) {
+    }
+}
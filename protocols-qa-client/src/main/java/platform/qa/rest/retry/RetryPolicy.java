@@ -0,0 +1,138 @@
+/*
+ * Copyright 2022 EPAM Systems.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package platform.qa.rest.retry;
+
+import io.restassured.response.Response;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.Duration;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Retry policy for requests that could not be served because service is not ready yet.
+ * Delay between attempts grows exponentially with random jitter, Retry-After header
+ * of the response takes precedence over calculated delay when it is present.
+ * <p>
+ * Example:
+ * <code>
+ *     RetryPolicy.builder()
+ *             .initialDelay(Duration.ofMillis(100))
+ *             .maxElapsedTime(Duration.ofMinutes(1))
+ *             .build();
+ * </code>
+ */
+@Getter
+@Builder(toBuilder = true)
+public class RetryPolicy {
+
+    private static final String RETRY_AFTER = "Retry-After";
+
+    @Builder.Default
+    private Set<Integer> retryableStatusCodes = Set.of(503, 504);
+
+    @Builder.Default
+    private Duration initialDelay = Duration.ofMillis(200);
+
+    @Builder.Default
+    private Duration maxDelay = Duration.ofSeconds(10);
+
+    @Builder.Default
+    private double multiplier = 2.0;
+
+    /**
+     * Part of the calculated delay (from 0 to 1) that is randomized to spread retries of parallel tests
+     */
+    @Builder.Default
+    private double jitter = 0.5;
+
+    @Builder.Default
+    private Duration maxElapsedTime = Duration.ofMinutes(5);
+
+    @Builder.Default
+    private boolean respectRetryAfter = true;
+
+    @Builder.Default
+    private CircuitBreaker.Settings circuitBreaker = CircuitBreaker.Settings.builder().build();
+
+    @Builder.Default
+    private RetryBudget budget = RetryBudget.global();
+
+    @Builder.Default
+    private RetryListener listener = RetryListener.NONE;
+
+    public static RetryPolicy defaultPolicy() {
+        return RetryPolicy.builder().build();
+    }
+
+    /**
+     * Policy that performs request only once
+     */
+    public static RetryPolicy noRetry() {
+        return RetryPolicy.builder()
+                .maxElapsedTime(Duration.ZERO)
+                .build();
+    }
+
+    public boolean isRetryable(Response response) {
+        return retryableStatusCodes.contains(response.statusCode());
+    }
+
+    /**
+     * Calculates delay before next attempt
+     * @param attempt number of failed attempt starting from 1
+     * @param response response of failed attempt
+     * @return delay before next attempt
+     */
+    public Duration delayBefore(int attempt, Response response) {
+        if (respectRetryAfter) {
+            Duration retryAfter = parseRetryAfter(response.header(RETRY_AFTER));
+            if (retryAfter != null) {
+                return retryAfter;
+            }
+        }
+
+        double exponential = initialDelay.toMillis() * Math.pow(multiplier, attempt - 1);
+        long capped = (long) Math.min(exponential, maxDelay.toMillis());
+        long randomized = (long) (capped * jitter * ThreadLocalRandom.current().nextDouble());
+        return Duration.ofMillis(capped - randomized);
+    }
+
+    static Duration parseRetryAfter(String value) {
+        if (value == null || value.isBlank()) {
+            return null;
+        }
+
+        try {
+            return Duration.ofSeconds(Math.max(0, Long.parseLong(value.trim())));
+        } catch (NumberFormatException ignored) {
+            // Retry-After could be specified as HTTP-date
+        }
+
+        try {
+            var date = ZonedDateTime.parse(value.trim(), DateTimeFormatter.RFC_1123_DATE_TIME);
+            var delay = Duration.between(ZonedDateTime.now(date.getZone()), date);
+            return delay.isNegative() ? Duration.ZERO : delay;
+        } catch (DateTimeParseException e) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,166 @@
+/*
+ * Copyright 2022 EPAM Systems.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package platform.qa.rest.soap;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * SOAP envelope with {@code ${name}} placeholders. Template is parsed once and cached,
+ * binding only joins parsed parts with XML escaped values.
+ * <p>
+ * Example:
+ * <code>
+ *     EnvelopeTemplate.fromResource("soap/subject-request.xml").bind(Map.of("edrpou", "12345678"));
+ * </code>
+ */
+public final class EnvelopeTemplate {
+
+    private static final int MAX_TEMPLATES = 256;
+    private static final Map<String, EnvelopeTemplate> TEMPLATES = new ConcurrentHashMap<>();
+    private static final Map<String, EnvelopeTemplate> RESOURCES = new ConcurrentHashMap<>();
+
+    private final String[] parts;
+    private final String[] names;
+    private final int partsLength;
+
+    private EnvelopeTemplate(String template) {
+        var partList = new ArrayList<String>();
+        var nameList = new ArrayList<String>();
+
+        int position = 0;
+        int start;
+        while ((start = template.indexOf("${", position)) >= 0) {
+            int end = template.indexOf('}', start + 2);
+            if (end < 0) {
+                break;
+            }
+            partList.add(template.substring(position, start));
+            nameList.add(template.substring(start + 2, end).trim());
+            position = end + 1;
+        }
+        partList.add(template.substring(position));
+
+        this.parts = partList.toArray(new String[0]);
+        this.names = nameList.toArray(new String[0]);
+        this.partsLength = partList.stream().mapToInt(String::length).sum();
+    }
+
+    /**
+     * Returns parsed template, templates are cached by content.
+     * Cache is cleared when it is full, so envelopes built on the fly do not pile up in memory.
+     * @param template envelope with {@code ${name}} placeholders
+     */
+    public static EnvelopeTemplate of(String template) {
+        var parsed = TEMPLATES.get(template);
+        if (parsed != null) {
+            return parsed;
+        }
+
+        if (TEMPLATES.size() >= MAX_TEMPLATES) {
+            TEMPLATES.clear();
+        }
+        return TEMPLATES.computeIfAbsent(template, EnvelopeTemplate::new);
+    }
+
+    /**
+     * Returns parsed template from classpath resource, resource is read once
+     * @param resource path of the resource
+     */
+    public static EnvelopeTemplate fromResource(String resource) {
+        return RESOURCES.computeIfAbsent(resource, key -> new EnvelopeTemplate(readResource(key)));
+    }
+
+    public List<String> getPlaceholders() {
+        return List.of(names);
+    }
+
+    /**
+     * Builds envelope with placeholders replaced by values, values are escaped for XML
+     * @param values values of the placeholders
+     * @return envelope
+     */
+    public String bind(Map<String, ?> values) {
+        var escaped = new String[names.length];
+        int length = partsLength;
+        for (int i = 0; i < names.length; i++) {
+            if (!values.containsKey(names[i])) {
+                throw new IllegalArgumentException("Value of placeholder ${" + names[i] + "} is not set");
+            }
+            escaped[i] = escape(String.valueOf(values.get(names[i])));
+            length += escaped[i].length();
+        }
+
+        var envelope = new StringBuilder(length).append(parts[0]);
+        for (int i = 0; i < names.length; i++) {
+            envelope.append(escaped[i]).append(parts[i + 1]);
+        }
+        return envelope.toString();
+    }
+
+    static String escape(String value) {
+        StringBuilder escaped = null;
+        for (int i = 0; i < value.length(); i++) {
+            String replacement = replacementOf(value.charAt(i));
+            if (replacement != null && escaped == null) {
+                escaped = new StringBuilder(value.length() + 16).append(value, 0, i);
+            }
+            if (escaped != null) {
+                if (replacement != null) {
+                    escaped.append(replacement);
+                } else {
+                    escaped.append(value.charAt(i));
+                }
+            }
+        }
+        return escaped == null ? value : escaped.toString();
+    }
+
+    private static String replacementOf(char character) {
+        switch (character) {
+            case '&':
+                return "&amp;";
+            case '<':
+                return "&lt;";
+            case '>':
+                return "&gt;";
+            case '"':
+                return "&quot;";
+            case '\'':
+                return "&apos;";
+            default:
+                return null;
+        }
+    }
+
+    private static String readResource(String resource) {
+        try (InputStream stream = Thread.currentThread().getContextClassLoader().getResourceAsStream(resource)) {
+            if (stream == null) {
+                throw new IllegalArgumentException("Resource " + resource + " is not found");
+            }
+            return new String(stream.readAllBytes(), StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
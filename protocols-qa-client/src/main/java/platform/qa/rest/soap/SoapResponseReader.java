@@ -0,0 +1,173 @@
+/*
+ * Copyright 2022 EPAM Systems.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package platform.qa.rest.soap;
+
+import lombok.SneakyThrows;
+
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamReader;
+
+/**
+ * Extracts values from SOAP responses by StAX without building DOM, reading stops
+ * as soon as all values are found. Paths are sequences of local names of elements:
+ * <ul>
+ *     <li>{@code /Envelope/Body/getResponse/status} - absolute path from the root element;</li>
+ *     <li>{@code //response/status} - elements at any depth, {@code *} matches any element.</li>
+ * </ul>
+ * Value of the element is concatenated text of the element and its descendants.
+ */
+public final class SoapResponseReader {
+
+    private static final XMLInputFactory FACTORY = createFactory();
+
+    private SoapResponseReader() {
+        throw new IllegalStateException("This is utility class!");
+    }
+
+    /**
+     * Returns first value of each path
+     * @param xml response body, stream is not closed
+     * @param paths paths of the elements
+     * @return values by paths in order of the paths, value is null when element is not found
+     */
+    public static Map<String, String> extract(InputStream xml, String... paths) {
+        var values = new LinkedHashMap<String, String>();
+        Arrays.stream(paths).forEach(path -> values.put(path, null));
+        var found = new boolean[paths.length];
+        int[] remaining = {paths.length};
+
+        read(xml, paths, (index, value) -> {
+            if (!found[index]) {
+                found[index] = true;
+                values.put(paths[index], value);
+                remaining[0]--;
+            }
+            return remaining[0] > 0;
+        });
+        return values;
+    }
+
+    /**
+     * Returns all values of the path
+     * @param xml response body, stream is not closed
+     * @param path path of the elements
+     * @return values in document order
+     */
+    public static List<String> extractAll(InputStream xml, String path) {
+        var values = new ArrayList<String>();
+        read(xml, new String[] {path}, (index, value) -> values.add(value));
+        return values;
+    }
+
+    private interface ValueHandler {
+        /**
+         * @return false to stop reading
+         */
+        boolean onValue(int pathIndex, String value);
+    }
+
+    @SneakyThrows
+    private static void read(InputStream xml, String[] paths, ValueHandler handler) {
+        var compiled = Arrays.stream(paths).map(ElementPath::new).toArray(ElementPath[]::new);
+        var captureDepths = new int[paths.length];
+        var captures = new StringBuilder[paths.length];
+        var stack = new ArrayList<String>();
+
+        XMLStreamReader reader = FACTORY.createXMLStreamReader(xml);
+        try {
+            while (reader.hasNext()) {
+                switch (reader.next()) {
+                    case XMLStreamConstants.START_ELEMENT:
+                        stack.add(reader.getLocalName());
+                        for (int i = 0; i < compiled.length; i++) {
+                            if (captures[i] == null && compiled[i].matches(stack)) {
+                                captures[i] = new StringBuilder();
+                                captureDepths[i] = stack.size();
+                            }
+                        }
+                        break;
+                    case XMLStreamConstants.CHARACTERS:
+                    case XMLStreamConstants.CDATA:
+                        for (StringBuilder capture : captures) {
+                            if (capture != null) {
+                                capture.append(reader.getTextCharacters(), reader.getTextStart(), reader.getTextLength());
+                            }
+                        }
+                        break;
+                    case XMLStreamConstants.END_ELEMENT:
+                        for (int i = 0; i < compiled.length; i++) {
+                            if (captures[i] != null && captureDepths[i] == stack.size()) {
+                                var value = captures[i].toString();
+                                captures[i] = null;
+                                if (!handler.onValue(i, value)) {
+                                    return;
+                                }
+                            }
+                        }
+                        stack.remove(stack.size() - 1);
+                        break;
+                    default:
+                        break;
+                }
+            }
+        } finally {
+            reader.close();
+        }
+    }
+
+    private static XMLInputFactory createFactory() {
+        var factory = XMLInputFactory.newFactory();
+        factory.setProperty(XMLInputFactory.IS_NAMESPACE_AWARE, true);
+        factory.setProperty(XMLInputFactory.IS_COALESCING, true);
+        factory.setProperty(XMLInputFactory.SUPPORT_DTD, false);
+        factory.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, false);
+        return factory;
+    }
+
+    private static final class ElementPath {
+        private final String[] names;
+        private final boolean anyDepth;
+
+        ElementPath(String path) {
+            anyDepth = path.startsWith("//");
+            names = Arrays.stream(path.split("/"))
+                    .filter(name -> !name.isEmpty())
+                    .toArray(String[]::new);
+        }
+
+        boolean matches(List<String> stack) {
+            if (anyDepth ? stack.size() < names.length : stack.size() != names.length) {
+                return false;
+            }
+
+            int offset = stack.size() - names.length;
+            for (int i = 0; i < names.length; i++) {
+                if (!"*".equals(names[i]) && !names[i].equals(stack.get(offset + i))) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+}
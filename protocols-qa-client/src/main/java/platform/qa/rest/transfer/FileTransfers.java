@@ -0,0 +1,63 @@
+/*
+ * Copyright 2022 EPAM Systems.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package platform.qa.rest.transfer;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Copying of streamed responses to files without reading them into memory
+ */
+public final class FileTransfers {
+
+    private static final long CHUNK_BYTES = 1024 * 1024;
+
+    private FileTransfers() {
+        throw new IllegalStateException("This is utility class!");
+    }
+
+    /**
+     * Writes the stream to the file through {@link FileChannel}, file is created or truncated
+     * @param source stream to copy, it is not closed
+     * @param target file to write
+     * @param totalBytes expected size of the content, -1 if unknown
+     * @param listener progress listener, notified after every chunk
+     * @return count of written bytes
+     */
+    public static long copy(InputStream source, Path target, long totalBytes, TransferListener listener)
+            throws IOException {
+        ReadableByteChannel input = Channels.newChannel(source);
+        try (FileChannel output = FileChannel.open(target, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING)) {
+            long position = 0;
+            long transferred;
+            while ((transferred = output.transferFrom(input, position, CHUNK_BYTES)) > 0) {
+                position += transferred;
+                listener.onProgress(position, totalBytes);
+            }
+            if (position == 0) {
+                listener.onProgress(0, totalBytes);
+            }
+            return position;
+        }
+    }
+}
@@ -0,0 +1,83 @@
+/*
+ * Copyright 2022 EPAM Systems.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package platform.qa.rest.transfer;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * Stream that reports count of read bytes to {@link TransferListener}, listener is notified
+ * after every {@value #NOTIFY_STEP} bytes and when the end of the stream is reached
+ */
+public class ProgressInputStream extends FilterInputStream {
+
+    static final int NOTIFY_STEP = 256 * 1024;
+
+    private final long totalBytes;
+    private final TransferListener listener;
+    private long transferredBytes;
+    private long notifiedBytes;
+
+    public ProgressInputStream(InputStream in, long totalBytes, TransferListener listener) {
+        super(in);
+        this.totalBytes = totalBytes;
+        this.listener = listener;
+    }
+
+    @Override
+    public int read() throws IOException {
+        int value = super.read();
+        onRead(value < 0 ? -1 : 1);
+        return value;
+    }
+
+    @Override
+    public int read(byte[] buffer, int offset, int length) throws IOException {
+        int count = super.read(buffer, offset, length);
+        onRead(count);
+        return count;
+    }
+
+    @Override
+    public long skip(long count) throws IOException {
+        long skipped = super.skip(count);
+        onRead(skipped);
+        return skipped;
+    }
+
+    @Override
+    public boolean markSupported() {
+        return false;
+    }
+
+    private void onRead(long count) {
+        if (count < 0) {
+            if (notifiedBytes != transferredBytes || transferredBytes == 0) {
+                notifiedBytes = transferredBytes;
+                listener.onProgress(transferredBytes, totalBytes);
+            }
+            return;
+        }
+
+        transferredBytes += count;
+        if (transferredBytes - notifiedBytes >= NOTIFY_STEP) {
+            notifiedBytes = transferredBytes;
+            listener.onProgress(transferredBytes, totalBytes);
+        }
+    }
+}
@@ -0,0 +1,33 @@
+/*
+ * Copyright 2022 EPAM Systems.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package platform.qa.rest.transfer;
+
+/**
+ * Receives progress of upload or download
+ */
+@FunctionalInterface
+public interface TransferListener {
+
+    TransferListener NONE = (transferredBytes, totalBytes) -> {
+    };
+
+    /**
+     * @param transferredBytes count of bytes transferred so far
+     * @param totalBytes size of the content, -1 if unknown
+     */
+    void onProgress(long transferredBytes, long totalBytes);
+}
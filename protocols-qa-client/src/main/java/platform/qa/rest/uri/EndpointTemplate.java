@@ -0,0 +1,204 @@
+/*
+ * Copyright 2022 EPAM Systems.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package platform.qa.rest.uri;
+
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Url with {@code {name}} path variables. Template is parsed once and cached, expanding only joins
+ * parsed parts with encoded values, expanded {@link URI} objects are cached by values.
+ * <p>
+ * Example:
+ * <code>
+ *     EndpointTemplate.of(dataFactory.getUrl() + "person/{id}/documents").expand(personId);
+ * </code>
+ */
+public final class EndpointTemplate {
+
+    private static final int MAX_CACHED_URIS = 1024;
+    private static final Map<String, EndpointTemplate> TEMPLATES = new ConcurrentHashMap<>();
+    private static final Map<String, EndpointTemplate> ID_TEMPLATES = new ConcurrentHashMap<>();
+
+    private static final boolean[] SEGMENT_CHARS = new boolean[128];
+    private static final boolean[] URI_CHARS = new boolean[128];
+
+    static {
+        var segment = "ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz0123456789-._~!$&'()*+,;=:@";
+        for (char c : segment.toCharArray()) {
+            SEGMENT_CHARS[c] = true;
+            URI_CHARS[c] = true;
+        }
+        for (char c : "/?#[]%".toCharArray()) {
+            URI_CHARS[c] = true;
+        }
+    }
+
+    private final String[] parts;
+    private final String[] names;
+    private final boolean[] allowedChars;
+    private final int partsLength;
+    private final Map<String, URI> uris = new ConcurrentHashMap<>();
+
+    private EndpointTemplate(String template, boolean[] allowedChars) {
+        var partList = new ArrayList<String>();
+        var nameList = new ArrayList<String>();
+
+        int position = 0;
+        int start;
+        while ((start = template.indexOf('{', position)) >= 0) {
+            int end = template.indexOf('}', start + 1);
+            if (end < 0) {
+                break;
+            }
+            partList.add(template.substring(position, start));
+            nameList.add(template.substring(start + 1, end).trim());
+            position = end + 1;
+        }
+        partList.add(template.substring(position));
+
+        this.parts = partList.toArray(new String[0]);
+        this.names = nameList.toArray(new String[0]);
+        this.allowedChars = allowedChars;
+        this.partsLength = partList.stream().mapToInt(String::length).sum();
+    }
+
+    private EndpointTemplate(String[] parts, String[] names, boolean[] allowedChars) {
+        this.parts = parts;
+        this.names = names;
+        this.allowedChars = allowedChars;
+        this.partsLength = Arrays.stream(parts).mapToInt(String::length).sum();
+    }
+
+    /**
+     * Returns parsed template, templates are cached by content.
+     * Values of variables are encoded as path segments, e.g. {@code /} is encoded as {@code %2F}.
+     * @param template url with {@code {name}} path variables
+     */
+    public static EndpointTemplate of(String template) {
+        return TEMPLATES.computeIfAbsent(template, key -> new EndpointTemplate(key, SEGMENT_CHARS));
+    }
+
+    /**
+     * Returns template of the url followed by single {@code id} variable, equivalent of {@code url + id}.
+     * The url is taken literally: braces in it are not treated as variables and are encoded like other
+     * characters that are not allowed in URI.
+     * Only characters that are not allowed in URI are encoded in the value, so it could contain
+     * nested path or query string as before.
+     * @param url url that the id is appended to
+     */
+    public static EndpointTemplate appendingId(String url) {
+        return ID_TEMPLATES.computeIfAbsent(url, key -> new EndpointTemplate(
+                new String[] {encode(key, URI_CHARS), ""}, new String[] {"id"}, URI_CHARS));
+    }
+
+    public List<String> getVariables() {
+        return List.of(names);
+    }
+
+    /**
+     * Expands template with values of variables in order of their appearance
+     * @param values values of variables
+     * @return expanded URI
+     */
+    public URI expand(String... values) {
+        if (values.length != names.length) {
+            throw new IllegalArgumentException("Template " + String.join("{}", parts) + " expects "
+                    + names.length + " values but was " + values.length);
+        }
+
+        var key = values.length == 1 ? values[0] : String.join("\u0000", values);
+        var uri = uris.get(key);
+        if (uri != null) {
+            return uri;
+        }
+
+        if (uris.size() >= MAX_CACHED_URIS) {
+            uris.clear();
+        }
+        return uris.computeIfAbsent(key, ignored -> URI.create(join(values)));
+    }
+
+    /**
+     * Expands template with values of variables by their names
+     * @param values values of variables
+     * @return expanded URI
+     */
+    public URI expand(Map<String, ?> values) {
+        var ordered = new String[names.length];
+        for (int i = 0; i < names.length; i++) {
+            var value = values.get(names[i]);
+            if (value == null) {
+                throw new IllegalArgumentException("Value of path variable " + names[i] + " is missing");
+            }
+            ordered[i] = value.toString();
+        }
+        return expand(ordered);
+    }
+
+    private String join(String[] values) {
+        var length = partsLength;
+        for (String value : values) {
+            length += value.length();
+        }
+
+        var result = new StringBuilder(length);
+        for (int i = 0; i < names.length; i++) {
+            result.append(parts[i]);
+            appendEncoded(result, values[i], allowedChars);
+        }
+        return result.append(parts[parts.length - 1]).toString();
+    }
+
+    private static String encode(String value, boolean[] allowedChars) {
+        var result = new StringBuilder(value.length());
+        appendEncoded(result, value, allowedChars);
+        return result.toString();
+    }
+
+    private static void appendEncoded(StringBuilder result, String value, boolean[] allowedChars) {
+        int length = value.length();
+        int i = 0;
+        while (i < length && isAllowed(value.charAt(i), allowedChars)) {
+            i++;
+        }
+        if (i == length) {
+            result.append(value);
+            return;
+        }
+
+        result.append(value, 0, i);
+        for (byte b : value.substring(i).getBytes(StandardCharsets.UTF_8)) {
+            if (b >= 0 && isAllowed((char) b, allowedChars)) {
+                result.append((char) b);
+            } else {
+                result.append('%')
+                        .append(Character.toUpperCase(Character.forDigit((b >> 4) & 0xF, 16)))
+                        .append(Character.toUpperCase(Character.forDigit(b & 0xF, 16)));
+            }
+        }
+    }
+
+    private static boolean isAllowed(char c, boolean[] allowedChars) {
+        return c < 128 && allowedChars[c];
+    }
+}
@@ -0,0 +1,51 @@
+/*
+ * Copyright 2022 EPAM Systems.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package platform.qa.rest.uri;
+
+import java.net.URI;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Cache of parsed request urls, so retried and repeated requests do not parse the same url again
+ */
+public final class UriCache {
+
+    private static final int MAX_ENTRIES = 10_000;
+    private static final Map<String, URI> URIS = new ConcurrentHashMap<>();
+
+    private UriCache() {
+        throw new IllegalStateException("This is utility class!");
+    }
+
+    /**
+     * Returns parsed url
+     * @param url absolute or relative url
+     * @throws IllegalArgumentException if url is not valid URI
+     */
+    public static URI get(String url) {
+        var uri = URIS.get(url);
+        if (uri != null) {
+            return uri;
+        }
+
+        if (URIS.size() >= MAX_ENTRIES) {
+            URIS.clear();
+        }
+        return URIS.computeIfAbsent(url, URI::create);
+    }
+}
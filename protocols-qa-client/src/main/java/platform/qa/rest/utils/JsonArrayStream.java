@@ -0,0 +1,81 @@
+package platform.qa.rest.utils;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectReader;
+import lombok.SneakyThrows;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.lang.reflect.Type;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Incremental reader of top-level JSON array. Elements are parsed one by one while stream
+ * is consumed, so the whole array is never held in memory.
+ * Returned stream should be closed to release underlying connection:
+ * <code>
+ *     try (Stream&lt;Item&gt; items = JsonArrayStream.of(inputStream, Item.class)) {
+ *         items.forEach(item -&gt; ...);
+ *     }
+ * </code>
+ */
+public final class JsonArrayStream {
+
+    private JsonArrayStream() {
+        throw new IllegalStateException("This is utility class!");
+    }
+
+    @SneakyThrows
+    public static <T> Stream<T> of(InputStream json, Type elementType) {
+        ObjectReader reader = JsonUtils.readerFor(elementType);
+        JsonParser parser = reader.createParser(json);
+        Iterator<T> iterator = iterator(parser, reader);
+
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(iterator, Spliterator.ORDERED), false)
+                .onClose(() -> {
+                    try {
+                        parser.close();
+                        json.close();
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                });
+    }
+
+    private static <T> Iterator<T> iterator(JsonParser parser, ObjectReader reader) throws IOException {
+        JsonToken first = parser.nextToken();
+        if (first != null && first != JsonToken.START_ARRAY) {
+            throw new IllegalStateException("JSON array is expected but was " + first);
+        }
+
+        return new Iterator<>() {
+            private JsonToken current = first == null ? null : parser.nextToken();
+
+            @Override
+            public boolean hasNext() {
+                return current != null && current != JsonToken.END_ARRAY;
+            }
+
+            @Override
+            public T next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                try {
+                    T value = reader.readValue(parser);
+                    current = parser.nextToken();
+                    return value;
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            }
+        };
+    }
+}
@@ -0,0 +1,9 @@
+package platform.qa.rest.utils;
+
+/**
+ * Library used by {@link JsonUtils} for serialization,
+ * default engine could be set by system property {@code qa.json.engine}
+ */
+public enum JsonEngine {
+    GSON, JACKSON
+}
@@ -1,40 +1,102 @@
 package platform.qa.rest.utils;
 
 import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.JavaType;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
 import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
 import lombok.SneakyThrows;
 
 import java.io.BufferedReader;
 import java.lang.reflect.Type;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
+/**
+ * Serialization helpers. Gson and Jackson instances are thread-safe, so they are created once
+ * and shared, readers and writers of Jackson are cached per type.
+ */
 public final class JsonUtils {
 
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper()
+            .configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false)
+            .configure(DeserializationFeature.FAIL_ON_NULL_CREATOR_PROPERTIES, false);
+
+    private static final Map<Type, ObjectReader> READERS = new ConcurrentHashMap<>();
+    private static final Map<Class<?>, ObjectWriter> WRITERS = new ConcurrentHashMap<>();
+    private static final GsonBuilder GSON_BUILDER = new GsonBuilder();
+
+    private static volatile Gson gson = GSON_BUILDER.create();
+    private static volatile JsonEngine engine = JsonEngine.valueOf(
+            System.getProperty("qa.json.engine", JsonEngine.GSON.name()).toUpperCase());
+
     private JsonUtils() {
         throw new IllegalStateException("This is utility class!");
     }
 
+    public static void setEngine(JsonEngine jsonEngine) {
+        engine = jsonEngine;
+    }
+
+    public static JsonEngine getEngine() {
+        return engine;
+    }
+
+    /**
+     * Registers Gson type adapter for the type, shared Gson instance is recreated
+     * @param type type to register adapter for
+     * @param typeAdapter type adapter, serializer or deserializer
+     */
+    public static synchronized void registerTypeAdapter(Type type, Object typeAdapter) {
+        GSON_BUILDER.registerTypeAdapter(type, typeAdapter);
+        gson = GSON_BUILDER.create();
+    }
+
+    /**
+     * Shared mapper is not exposed, so its configuration could not be changed by callers.
+     * Use {@link #readerFor(Type)} and {@link #writerFor(Class)} to get immutable cached instances.
+     * @return new copy of Jackson object mapper that ignores unknown properties
+     */
+    public static ObjectMapper getObjectMapper() {
+        return OBJECT_MAPPER.copy();
+    }
+
+    public static ObjectReader readerFor(Type type) {
+        return READERS.computeIfAbsent(type, key -> {
+            JavaType javaType = OBJECT_MAPPER.getTypeFactory().constructType(key);
+            return OBJECT_MAPPER.readerFor(javaType);
+        });
+    }
+
+    public static ObjectWriter writerFor(Class<?> clazz) {
+        return WRITERS.computeIfAbsent(clazz, OBJECT_MAPPER::writerFor);
+    }
+
     public static <T> T fromJson(String json, Class<T> clazz) {
-        return new Gson().fromJson(json, clazz);
+        return fromJson(json, (Type) clazz);
     }
 
     public static  <T> T fromJson(BufferedReader json, Class<T> clazz) {
-        return new Gson().fromJson(json, clazz);
+        return engine == JsonEngine.JACKSON ? mapFromJson(json, clazz) : gson.fromJson(json, clazz);
     }
 
     @SneakyThrows
     public static <T> T mapFromJson(BufferedReader json, Class<T> clazz) {
-        var objectMapper = new ObjectMapper()
-                .configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
-
-        return objectMapper.readValue(json, clazz);
+        return readerFor(clazz).readValue(json);
     }
 
+    @SneakyThrows
     public static <T> T fromJson(String json, Type type) {
-        return new Gson().fromJson(json, type);
+        return engine == JsonEngine.JACKSON ? readerFor(type).readValue(json) : gson.fromJson(json, type);
     }
 
+    @SneakyThrows
     public static  <T> String toJson(T object) {
-        return new Gson().toJson(object);
+        if (engine == JsonEngine.JACKSON && object != null) {
+            return writerFor(object.getClass()).writeValueAsString(object);
+        }
+        return gson.toJson(object);
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,29 @@
+package platform.qa.rest.utils;
+
+import io.restassured.config.LogConfig;
+import io.restassured.config.RestAssuredConfig;
+import io.restassured.specification.RequestSpecification;
+import io.restassured.specification.SpecificationQuerier;
+
+/**
+ * Helpers of Rest Assured request specifications
+ */
+public final class RequestSpecifications {
+
+    private RequestSpecifications() {
+        throw new IllegalStateException("This is utility class!");
+    }
+
+    /**
+     * Disables logging of request and response on validation failure for the specification,
+     * such logging makes Rest Assured read the whole request and response bodies into memory.
+     * Should be used for streamed bodies: JSON arrays read incrementally, uploaded and downloaded files.
+     * @param specification request specification
+     * @return the same specification that keeps bodies unread
+     */
+    public static RequestSpecification unbuffered(RequestSpecification specification) {
+        var config = SpecificationQuerier.query(specification).getConfig();
+        return specification.config((config == null ? RestAssuredConfig.config() : config)
+                .logConfig(LogConfig.logConfig()));
+    }
+}
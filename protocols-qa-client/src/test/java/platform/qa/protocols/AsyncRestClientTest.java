@@ -0,0 +1,99 @@
+package platform.qa.protocols;
+
+import io.restassured.http.ContentType;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import platform.qa.rest.client.impl.AsyncClientSettings;
+import platform.qa.rest.client.impl.AsyncRestClientImpl;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class AsyncRestClientTest {
+    HttpStub stub;
+    AtomicInteger active = new AtomicInteger();
+    AtomicInteger maxActive = new AtomicInteger();
+
+    @BeforeEach
+    public void startServer() {
+        stub = HttpStub.start(16).handle("/items/", exchange -> {
+            maxActive.accumulateAndGet(active.incrementAndGet(), Math::max);
+            try {
+                Thread.sleep(20);
+            } catch (InterruptedException ignored) {
+                Thread.currentThread().interrupt();
+            }
+            active.decrementAndGet();
+
+            var missing = exchange.getRequestURI().getPath().endsWith("missing");
+            HttpStub.respond(exchange, missing ? 404 : 200, missing ? "{}" : "[\"item\"]");
+        });
+    }
+
+    @AfterEach
+    public void stopServer() {
+        stub.close();
+    }
+
+    @Test
+    public void inFlightRequestsAreLimitedTest() {
+        var client = new AsyncRestClientImpl(baseUrl(), "token", ContentType.JSON,
+                AsyncClientSettings.builder().maxInFlight(4).build());
+
+        List<CompletableFuture<List<String>>> futures = IntStream.range(0, 40)
+                .mapToObj(i -> client.<List<String>>get("items/{id}", Map.of("id", String.valueOf(i)),
+                        List.class, 200))
+                .collect(Collectors.toList());
+        CompletableFuture.allOf(futures.toArray(new CompletableFuture[0])).join();
+
+        assertEquals(List.of("item"), futures.get(0).join());
+        assertTrue(maxActive.get() <= 4);
+    }
+
+    @Test
+    public void unexpectedStatusCodeFailsFutureTest() {
+        var client = new AsyncRestClientImpl(baseUrl(), null);
+
+        assertThatThrownBy(() -> client.get("items/missing", null, String.class, 200).get())
+                .isInstanceOf(ExecutionException.class)
+                .hasCauseInstanceOf(AssertionError.class);
+    }
+
+    @Test
+    public void deleteCompletesWithNullTest() {
+        var client = new AsyncRestClientImpl(baseUrl(), null);
+
+        assertNull(client.delete("items/1", 200, null).join());
+    }
+
+    @Test
+    public void longQueueOfInvalidRequestsDoesNotOverflowStackTest() {
+        var client = new AsyncRestClientImpl(baseUrl(), null, ContentType.JSON,
+                AsyncClientSettings.builder().maxInFlight(1).build());
+
+        var slow = client.get("items/1", null, String.class, 200);
+        List<CompletableFuture<String>> invalid = IntStream.range(0, 50_000)
+                .mapToObj(i -> client.<String>get("invalid path", null, String.class, 200))
+                .collect(Collectors.toList());
+        slow.orTimeout(30, TimeUnit.SECONDS).join();
+
+        assertTrue(invalid.stream().allMatch(CompletableFuture::isCompletedExceptionally));
+        assertEquals(0, client.getQueuedRequests());
+    }
+
+    private String baseUrl() {
+        return stub.getUrl() + "/";
+    }
+}
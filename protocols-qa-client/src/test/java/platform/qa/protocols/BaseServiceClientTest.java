@@ -0,0 +1,45 @@
+package platform.qa.protocols;
+
+import io.restassured.RestAssured;
+import io.restassured.http.Method;
+import io.restassured.response.Response;
+import io.restassured.specification.RequestSpecification;
+import org.junit.jupiter.api.Test;
+import platform.qa.rest.BaseServiceClient;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public class BaseServiceClientTest {
+
+    @Test
+    public void overriddenRetrieveResponseReceivesUrlTest() {
+        var client = new RecordingClient();
+
+        assertEquals(200, client.send("http://host/api/person/42").statusCode());
+        assertEquals(200, client.send(null).statusCode());
+        assertEquals(List.of("http://host/api/person/42", "null"), client.urls);
+    }
+
+    private static class RecordingClient extends BaseServiceClient {
+        final List<String> urls = new ArrayList<>();
+
+        Response send(String url) {
+            return url == null
+                    ? waitFor(RestAssured.given(), Method.GET, null)
+                    : waitFor(RestAssured.given(), Method.GET, url);
+        }
+
+        @Override
+        protected Response retrieveResponse(RequestSpecification request, Method method, String url) {
+            urls.add(String.valueOf(url));
+            Response response = mock(Response.class);
+            when(response.statusCode()).thenReturn(200);
+            return response;
+        }
+    }
+}
@@ -0,0 +1,61 @@
+package platform.qa.protocols;
+
+import io.restassured.response.Response;
+import io.restassured.response.ResponseBody;
+import org.junit.jupiter.api.Test;
+import platform.qa.rest.bulk.BulkExecutor;
+
+import java.util.List;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public class BulkExecutorTest {
+
+    @Test
+    public void collectsIdsAndFailuresInRequestOrderTest() {
+        List<Supplier<Response>> requests = IntStream.range(0, 20)
+                .mapToObj(i -> i == 7
+                        ? mockResponse(400, "{\"message\":\"bad\"}")
+                        : mockResponse(201, "{\"id\":\"id-" + i + "\"}"))
+                .map(response -> (Supplier<Response>) () -> response)
+                .collect(Collectors.toList());
+
+        var result = BulkExecutor.execute(requests, 201, 4);
+
+        assertEquals(20, result.getTotal());
+        assertEquals("id-0", result.getIds().get(0));
+        assertEquals("id-19", result.getIds().get(19));
+        assertNull(result.getIds().get(7));
+        assertEquals(1, result.getFailures().size());
+        assertEquals(7, result.getFailures().get(0).getIndex());
+        assertTrue(result.getP50().compareTo(result.getMax()) <= 0);
+    }
+
+    @Test
+    public void exceptionsAreReportedAsFailuresTest() {
+        List<Supplier<Response>> requests = List.of(() -> {
+            throw new IllegalStateException("connection refused");
+        });
+
+        var result = BulkExecutor.execute(requests, 201, 1);
+
+        assertTrue(result.hasFailures());
+        assertEquals("connection refused", result.getFailures().get(0).getMessage());
+    }
+
+    private static Response mockResponse(int statusCode, String body) {
+        Response response = mock(Response.class);
+        ResponseBody responseBody = mock(ResponseBody.class);
+        when(responseBody.asString()).thenReturn(body);
+        when(response.statusCode()).thenReturn(statusCode);
+        when(response.body()).thenReturn(responseBody);
+        return response;
+    }
+}
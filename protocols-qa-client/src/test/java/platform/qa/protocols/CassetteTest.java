@@ -0,0 +1,191 @@
+package platform.qa.protocols;
+
+import com.sun.net.httpserver.HttpExchange;
+import io.restassured.http.ContentType;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import platform.qa.rest.cassette.Cassette;
+import platform.qa.rest.client.impl.RestClientImpl;
+import platform.qa.rest.exception.CassetteMissException;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class CassetteTest {
+
+    @TempDir
+    Path tempDir;
+    String recordedUrl;
+
+    @Test
+    public void recordedResponsesAreReplayedWithoutServerTest() throws IOException {
+        var file = tempDir.resolve("cassette.bin");
+        var hits = new AtomicInteger();
+        var stub = HttpStub.start().handle("/items", exchange -> {
+            exchange.getResponseHeaders().add("X-Request-Id", "r-" + (hits.get() + 1));
+            echoItems(exchange, hits);
+        });
+        var url = stub.getUrl();
+
+        try (var cassette = Cassette.record(file)) {
+            var client = new RestClientImpl(url, null);
+            client.setCassette(cassette);
+            post(client, "a");
+            post(client, "a");
+            post(client, "b");
+        } finally {
+            stub.close();
+        }
+
+        try (var cassette = Cassette.replay(file)) {
+            var client = new RestClientImpl(url, null);
+            client.setCassette(cassette);
+
+            assertEquals(3, cassette.size());
+            assertEquals(List.of(3, Map.of("name", "b")), post(client, "b"));
+            assertEquals(List.of(1, Map.of("name", "a")), post(client, "a"));
+            assertEquals(List.of(2, Map.of("name", "a")), post(client, "a"));
+            assertEquals(List.of(2, Map.of("name", "a")), post(client, "a"));
+            assertThatThrownBy(() -> post(client, "c"))
+                    .isInstanceOf(CassetteMissException.class);
+        }
+        assertEquals(3, hits.get());
+    }
+
+    @Test
+    public void incompleteLastEntryIsIgnoredTest() throws IOException {
+        var file = recordItems("a", "b");
+        try (var channel = FileChannel.open(file, StandardOpenOption.WRITE)) {
+            channel.truncate(channel.size() - 3);
+        }
+
+        try (var cassette = Cassette.replay(file)) {
+            var client = new RestClientImpl(recordedUrl, null);
+            client.setCassette(cassette);
+
+            assertEquals(1, cassette.size());
+            assertEquals(List.of(1, Map.of("name", "a")), post(client, "a"));
+        }
+    }
+
+    @Test
+    public void entriesBeyondTwoGigabytesAreReplayedTest() throws IOException {
+        var recorded = Files.readAllBytes(recordItems("a"));
+        var file = tempDir.resolve("large.bin");
+        long position = 8;
+        try (var channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.WRITE)) {
+            channel.write(ByteBuffer.wrap(recorded, 0, 8), 0);
+            for (int i = 0; i < 2; i++) {
+                int fillerLength = 1_200_000_000;
+                channel.write(ByteBuffer.allocate(20).putLong(i).putInt(200).putInt(0).putInt(fillerLength).flip(),
+                        position);
+                position += 20 + fillerLength;
+            }
+            channel.write(ByteBuffer.wrap(recorded, 8, recorded.length - 8), position);
+        }
+
+        try (var cassette = Cassette.replay(file)) {
+            var client = new RestClientImpl(recordedUrl, null);
+            client.setCassette(cassette);
+
+            assertTrue(position > Integer.MAX_VALUE);
+            assertEquals(3, cassette.size());
+            assertEquals(List.of(1, Map.of("name", "a")), post(client, "a"));
+        }
+    }
+
+    @Test
+    public void fileBodiesAreMatchedByContentTest() throws IOException {
+        var file = tempDir.resolve("files.bin");
+        var first = Files.writeString(tempDir.resolve("first.json"), "{\"name\":\"a\"}");
+        var second = Files.writeString(tempDir.resolve("second.json"), "{\"name\":\"b\"}");
+        var hits = new AtomicInteger();
+        var stub = HttpStub.start().handle("/items", exchange -> echoItems(exchange, hits));
+        var url = stub.getUrl();
+
+        try (var cassette = Cassette.record(file)) {
+            var client = new RestClientImpl(url, null);
+            client.setCassette(cassette);
+            postFile(client, first);
+            postFile(client, second);
+        } finally {
+            stub.close();
+        }
+
+        try (var cassette = Cassette.replay(file)) {
+            var client = new RestClientImpl(url, null);
+            client.setCassette(cassette);
+
+            assertEquals(2, cassette.size());
+            assertEquals(List.of(2, Map.of("name", "b")), postFile(client, second));
+            assertEquals(List.of(1, Map.of("name", "a")), postFile(client, first));
+        }
+    }
+
+    @Test
+    public void streamedBodyIsNotRecordedTest() throws IOException {
+        var stub = HttpStub.start().handle("/items", exchange -> echoItems(exchange, new AtomicInteger()));
+
+        try (stub; var cassette = Cassette.record(tempDir.resolve("stream.bin"))) {
+            var client = new RestClientImpl(stub.getUrl(), null);
+            client.setCassette(cassette);
+
+            assertThatThrownBy(() -> client.upload("/items", null,
+                    new ByteArrayInputStream("{}".getBytes(StandardCharsets.UTF_8)), ContentType.JSON,
+                    List.class, 201, null))
+                    .isInstanceOf(IllegalArgumentException.class);
+            assertEquals(0, cassette.size());
+        }
+    }
+
+    private Path recordItems(String... names) throws IOException {
+        var file = tempDir.resolve("items.bin");
+        var hits = new AtomicInteger();
+        var stub = HttpStub.start().handle("/items", exchange -> echoItems(exchange, hits));
+        recordedUrl = stub.getUrl();
+
+        try (var cassette = Cassette.record(file)) {
+            var client = new RestClientImpl(recordedUrl, null);
+            client.setCassette(cassette);
+            for (String name : names) {
+                post(client, name);
+            }
+        } finally {
+            stub.close();
+        }
+        return file;
+    }
+
+    private static void echoItems(HttpExchange exchange, AtomicInteger hits) throws IOException {
+        var body = new String(exchange.getRequestBody().readAllBytes(), StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().add("Content-Type", "application/json");
+        HttpStub.respond(exchange, 201, "[" + hits.incrementAndGet() + "," + body + "]");
+    }
+
+    private static List<Object> postFile(RestClientImpl client, Path body) {
+        return client.prepareRequestSpecification(null)
+                .body(body.toFile())
+                .post("/items")
+                .then()
+                .statusCode(201)
+                .extract()
+                .as(List.class);
+    }
+
+    private static List<Object> post(RestClientImpl client, String name) {
+        return client.post("/items", null, Map.of("name", name), List.class, 201);
+    }
+}
@@ -0,0 +1,98 @@
+package platform.qa.protocols;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import platform.qa.rest.client.impl.RestClientImpl;
+import platform.qa.rest.compression.CompressionSettings;
+import platform.qa.rest.metrics.HttpMetrics;
+import platform.qa.rest.metrics.InMemoryMetricsRegistry;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class CompressionTest {
+    static final String JSON = "[" + "{\"name\":\"item\"},".repeat(500) + "{\"name\":\"item\"}]";
+
+    HttpStub stub;
+    volatile String acceptEncoding;
+    volatile String contentEncoding;
+    volatile String requestBody;
+
+    @BeforeEach
+    public void startServer() {
+        stub = HttpStub.start().handle("/items", exchange -> {
+            acceptEncoding = exchange.getRequestHeaders().getFirst("Accept-Encoding");
+            contentEncoding = exchange.getRequestHeaders().getFirst("Content-Encoding");
+            var body = exchange.getRequestBody().readAllBytes();
+            requestBody = new String("gzip".equals(contentEncoding)
+                    ? new GZIPInputStream(new ByteArrayInputStream(body)).readAllBytes()
+                    : body, StandardCharsets.UTF_8);
+
+            var bytes = JSON.getBytes(StandardCharsets.UTF_8);
+            if (acceptEncoding != null && acceptEncoding.contains("gzip")) {
+                var out = new ByteArrayOutputStream();
+                try (var gzip = new GZIPOutputStream(out)) {
+                    gzip.write(bytes);
+                }
+                bytes = out.toByteArray();
+                exchange.getResponseHeaders().add("Content-Encoding", "gzip");
+            }
+            HttpStub.respond(exchange, 200, bytes);
+        });
+    }
+
+    @AfterEach
+    public void stopServer() {
+        stub.close();
+        HttpMetrics.setRegistry(new InMemoryMetricsRegistry());
+    }
+
+    @Test
+    public void compressedResponseIsDecodedAndRatioIsRecordedTest() {
+        var registry = new InMemoryMetricsRegistry();
+        HttpMetrics.setRegistry(registry);
+
+        String response = client().get("/items", null, String.class, 200);
+
+        assertEquals(JSON, response);
+        assertTrue(acceptEncoding.contains("gzip"));
+        assertTrue(registry.endpoint("GET /items").getCompressionRatio() > 10);
+    }
+
+    @Test
+    public void responseCompressionCouldBeDisabledTest() {
+        var client = client();
+        client.setCompression(CompressionSettings.disabled());
+
+        String response = client.get("/items", null, String.class, 200);
+
+        assertEquals(JSON, response);
+        assertNull(acceptEncoding);
+    }
+
+    @Test
+    public void largeRequestBodyIsGzippedTest() {
+        var client = client();
+        client.setCompression(CompressionSettings.builder().gzipRequests(true).minRequestSize(100).build());
+
+        client.post("/items", null, JSON, String.class, 200);
+        assertEquals("gzip", contentEncoding);
+        assertEquals(JSON, requestBody);
+
+        client.post("/items", null, "{}", String.class, 200);
+        assertNull(contentEncoding);
+        assertEquals("{}", requestBody);
+    }
+
+    private RestClientImpl client() {
+        return new RestClientImpl(stub.getUrl(), null);
+    }
+}
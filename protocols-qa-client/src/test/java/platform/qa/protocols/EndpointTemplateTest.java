@@ -0,0 +1,57 @@
+package platform.qa.protocols;
+
+import org.junit.jupiter.api.Test;
+import platform.qa.rest.uri.EndpointTemplate;
+import platform.qa.rest.uri.UriCache;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+public class EndpointTemplateTest {
+
+    @Test
+    public void variablesAreEncodedAsPathSegmentsTest() {
+        var template = EndpointTemplate.of("http://host/api/person/{id}/documents/{name}");
+
+        assertEquals(List.of("id", "name"), template.getVariables());
+        assertEquals("http://host/api/person/42/documents/a%2Fb%20c", template.expand("42", "a/b c").toString());
+        assertEquals("http://host/api/person/1/documents/%D1%84", template.expand(Map.of("id", 1, "name", "ф"))
+                .toString());
+    }
+
+    @Test
+    public void appendedIdKeepsPathAndQueryTest() {
+        var template = EndpointTemplate.appendingId("http://host/api/person/");
+
+        assertEquals("http://host/api/person/42/documents?page=1",
+                template.expand("42/documents?page=1").toString());
+        assertEquals("http://host/api/person/a%20b", template.expand("a b").toString());
+    }
+
+    @Test
+    public void bracesInAppendedIdPrefixAreNotVariablesTest() {
+        var template = EndpointTemplate.appendingId("http://host/api/{tenant}/person/");
+
+        assertEquals(List.of("id"), template.getVariables());
+        assertEquals("http://host/api/%7Btenant%7D/person/42", template.expand("42").toString());
+    }
+
+    @Test
+    public void templatesAndUrisAreCachedTest() {
+        assertSame(EndpointTemplate.of("http://host/{id}"), EndpointTemplate.of("http://host/{id}"));
+        assertSame(EndpointTemplate.of("http://host/{id}").expand("1"), EndpointTemplate.of("http://host/{id}").expand("1"));
+        assertSame(UriCache.get("http://host/api"), UriCache.get("http://host/api"));
+    }
+
+    @Test
+    public void missingValueIsRejectedTest() {
+        var template = EndpointTemplate.of("http://host/{id}/{name}");
+
+        assertThatThrownBy(() -> template.expand("1")).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> template.expand(Map.of("id", "1"))).isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,97 @@
+package platform.qa.protocols;
+
+import io.restassured.http.ContentType;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import platform.qa.rest.client.impl.RestClientImpl;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class FileTransferTest {
+    static final byte[] CONTENT = new byte[3 * 1024 * 1024 + 17];
+
+    HttpStub stub;
+    volatile byte[] uploaded;
+    volatile String transferEncoding;
+
+    @TempDir
+    Path tempDir;
+
+    @BeforeEach
+    public void startServer() {
+        new Random(42).nextBytes(CONTENT);
+        stub = HttpStub.start().handle("/files/", exchange -> {
+            if ("POST".equals(exchange.getRequestMethod())) {
+                transferEncoding = exchange.getRequestHeaders().getFirst("Transfer-Encoding");
+                uploaded = exchange.getRequestBody().readAllBytes();
+                HttpStub.respond(exchange, 201, "uploaded");
+            } else {
+                exchange.getResponseHeaders().add("Content-Type", "application/octet-stream");
+                HttpStub.respond(exchange, 200, CONTENT);
+            }
+        });
+    }
+
+    @AfterEach
+    public void stopServer() {
+        stub.close();
+    }
+
+    @Test
+    public void streamIsUploadedByChunksTest() {
+        List<Long> progress = new ArrayList<>();
+
+        String response = client().upload("files/{name}", Map.of("name", "doc.bin"),
+                new ByteArrayInputStream(CONTENT), ContentType.BINARY, String.class, 201,
+                (transferred, total) -> progress.add(transferred));
+
+        assertEquals("uploaded", response);
+        assertEquals("chunked", transferEncoding);
+        assertArrayEquals(CONTENT, uploaded);
+        assertTrue(progress.size() > 1);
+        assertEquals(CONTENT.length, progress.get(progress.size() - 1));
+    }
+
+    @Test
+    public void fileIsUploadedWithKnownSizeTest() throws IOException {
+        var file = Files.write(tempDir.resolve("upload.bin"), CONTENT);
+        List<Long> totals = new ArrayList<>();
+
+        client().upload("files/upload.bin", null, file, ContentType.BINARY, String.class, 201,
+                (transferred, total) -> totals.add(total));
+
+        assertArrayEquals(CONTENT, uploaded);
+        assertEquals(CONTENT.length, totals.get(0));
+    }
+
+    @Test
+    public void responseIsDownloadedToFileTest() throws IOException {
+        var target = tempDir.resolve("download.bin");
+        List<long[]> progress = new ArrayList<>();
+
+        long written = client().download("files/doc.bin", null, target, 200,
+                (transferred, total) -> progress.add(new long[]{transferred, total}));
+
+        assertEquals(CONTENT.length, written);
+        assertArrayEquals(CONTENT, Files.readAllBytes(target));
+        assertEquals(CONTENT.length, progress.get(progress.size() - 1)[0]);
+        assertEquals(CONTENT.length, progress.get(0)[1]);
+    }
+
+    private RestClientImpl client() {
+        return new RestClientImpl(stub.getUrl() + "/", null);
+    }
+}
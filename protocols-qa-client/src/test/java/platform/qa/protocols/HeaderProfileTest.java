@@ -0,0 +1,37 @@
+package platform.qa.protocols;
+
+import org.junit.jupiter.api.Test;
+import platform.qa.rest.headers.HeaderProfile;
+
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class HeaderProfileTest {
+
+    @Test
+    public void randomProfileContainsAllHeadersTest() {
+        var profile = HeaderProfile.random();
+
+        assertEquals(6, profile.getMandatory().size());
+        assertEquals(6, profile.getNonMandatory().size());
+        assertEquals(12, profile.getAll().size());
+        assertTrue(profile.getMandatory().get(HeaderProfile.X_SOURCE_SYSTEM).matches("[a-z]{10}"));
+        assertEquals(profile.getNonMandatory().get(HeaderProfile.X_SOURCE_BUSINESS_PROCESS_INSTANCE_ID),
+                profile.getNonMandatory().get(HeaderProfile.X_SOURCE_ROOT_BUSINESS_PROCESS_INSTANCE_ID));
+    }
+
+    @Test
+    public void modificationsReturnNewProfileTest() {
+        var profile = HeaderProfile.random();
+        var changed = profile.withDigitalSignature("sign", "derived").withBusinessProcessInstanceId("process");
+
+        assertEquals("sign", changed.getAll().get(HeaderProfile.X_DIGITAL_SIGNATURE));
+        assertEquals("derived", changed.getAll().get(HeaderProfile.X_DIGITAL_SIGNATURE_DERIVED));
+        assertEquals("process", changed.getAll().get(HeaderProfile.X_SOURCE_ROOT_BUSINESS_PROCESS_INSTANCE_ID));
+        assertNotEquals("sign", profile.getAll().get(HeaderProfile.X_DIGITAL_SIGNATURE));
+        assertThatThrownBy(() -> profile.getAll().put("key", "value"))
+                .isInstanceOf(UnsupportedOperationException.class);
+    }
+}
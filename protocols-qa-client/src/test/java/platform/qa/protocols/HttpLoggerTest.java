@@ -0,0 +1,67 @@
+package platform.qa.protocols;
+
+import org.apache.logging.log4j.Logger;
+import org.junit.jupiter.api.Test;
+import platform.qa.rest.logging.HttpLogSettings;
+import platform.qa.rest.logging.HttpLogger;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Matchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class HttpLoggerTest {
+    Logger logger = mock(Logger.class);
+
+    @Test
+    public void bodyIsTruncatedByBytesTest() {
+        assertEquals("short", HttpLogger.truncate("short", 10));
+        assertEquals("abcde...[truncated, 5 bytes more]", HttpLogger.truncate("abcdefghij", 5));
+        assertEquals("дa...[truncated, 4 bytes more]", HttpLogger.truncate("дaдд", 4));
+    }
+
+    @Test
+    public void messageIsNotBuiltWhenLoggingIsDisabledTest() {
+        when(logger.isInfoEnabled()).thenReturn(true);
+        var calls = new AtomicInteger();
+        var httpLogger = new HttpLogger(logger, HttpLogSettings.disabled());
+
+        httpLogger.info(() -> "message " + calls.incrementAndGet());
+
+        assertEquals(0, calls.get());
+        verify(logger, never()).info(any(Supplier.class));
+    }
+
+    @Test
+    public void onlySampledMessagesAreLoggedTest() {
+        when(logger.isInfoEnabled()).thenReturn(true);
+        var httpLogger = new HttpLogger(logger, HttpLogSettings.builder().sampleRate(3).build());
+
+        for (int i = 0; i < 9; i++) {
+            httpLogger.request(() -> "message");
+        }
+
+        verify(logger, times(3)).info(any(Supplier.class));
+    }
+
+    @Test
+    public void allLinesOfSampledRequestAreLoggedTest() {
+        when(logger.isInfoEnabled()).thenReturn(true);
+        var httpLogger = new HttpLogger(logger, HttpLogSettings.builder().sampleRate(2).build());
+
+        for (int i = 0; i < 4; i++) {
+            httpLogger.request(() -> "request");
+            httpLogger.info(() -> "attempt");
+            httpLogger.info(() -> "response");
+            httpLogger.endRequest();
+        }
+
+        verify(logger, times(6)).info(any(Supplier.class));
+    }
+}
@@ -0,0 +1,66 @@
+package platform.qa.protocols;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import platform.qa.rest.client.impl.RestClientImpl;
+import platform.qa.rest.metrics.HttpMetrics;
+import platform.qa.rest.metrics.InMemoryMetricsRegistry;
+import platform.qa.rest.metrics.LatencyHistogram;
+
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class HttpMetricsTest {
+    HttpStub stub;
+
+    @AfterEach
+    public void stopServer() {
+        if (stub != null) {
+            stub.close();
+        }
+    }
+
+    @Test
+    public void percentilesAreWithinBucketPrecisionTest() {
+        var histogram = new LatencyHistogram();
+        for (int i = 1; i <= 1_000; i++) {
+            histogram.record(i * 1_000L);
+        }
+
+        assertEquals(1_000, histogram.getCount());
+        assertEquals(1_000_000, histogram.getMax());
+        assertTrue(Math.abs(histogram.getPercentile(50) - 500_000) <= 500_000 * 0.0625);
+        assertTrue(Math.abs(histogram.getPercentile(99) - 990_000) <= 990_000 * 0.0625);
+    }
+
+    @Test
+    public void endpointNameIsPathTemplateTest() {
+        assertEquals("GET /api/person/{id}",
+                HttpMetrics.endpoint("GET", "http://host:8080/api/person/0d756563-d6a3-4c5e-9c47-7c3f1e3b4a12?x=1"));
+        assertEquals("POST /api/person/{id}/documents", HttpMetrics.endpoint("POST", "api/person/42/documents"));
+        assertEquals("GET /api/person/{id}", HttpMetrics.endpoint("GET", "/api/person/{id}"));
+    }
+
+    @Test
+    public void requestsAreRecordedByFilterTest() {
+        stub = HttpStub.start().handle("/items/", exchange -> HttpStub.respond(exchange, 200, "[\"item\"]"));
+        var registry = new InMemoryMetricsRegistry();
+        HttpMetrics.setRegistry(registry);
+
+        try {
+            var client = new RestClientImpl(stub.getUrl(), null);
+            client.get("/items/{id}", Map.of("id", "1"), String.class, 200);
+            client.get("/items/{id}", Map.of("id", "2"), String.class, 200);
+        } finally {
+            HttpMetrics.setRegistry(new InMemoryMetricsRegistry());
+        }
+
+        var metrics = registry.endpoint("GET /items/{id}");
+        assertEquals(2, metrics.getLatency().getCount());
+        assertEquals(2, metrics.getStatusCount(200));
+        assertEquals(16, metrics.getBytesIn());
+        assertTrue(registry.toJson().contains("\"GET /items/{id}\""));
+    }
+}
@@ -0,0 +1,74 @@
+package platform.qa.protocols;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpHandler;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * In-process HTTP server on a free local port, owns its handler threads and stops them on close
+ */
+public class HttpStub implements AutoCloseable {
+
+    private final HttpServer server;
+    private final ExecutorService executor;
+
+    private HttpStub(int threads) {
+        try {
+            server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        executor = threads > 1 ? Executors.newFixedThreadPool(threads) : null;
+        server.setExecutor(executor);
+        server.start();
+    }
+
+    /**
+     * Starts stub which handles requests one by one
+     */
+    public static HttpStub start() {
+        return new HttpStub(1);
+    }
+
+    /**
+     * Starts stub which handles requests in parallel
+     * @param threads count of handler threads
+     */
+    public static HttpStub start(int threads) {
+        return new HttpStub(threads);
+    }
+
+    public HttpStub handle(String path, HttpHandler handler) {
+        server.createContext(path, handler);
+        return this;
+    }
+
+    public String getUrl() {
+        return "http://localhost:" + server.getAddress().getPort();
+    }
+
+    public static void respond(HttpExchange exchange, int status, String body) throws IOException {
+        respond(exchange, status, body.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static void respond(HttpExchange exchange, int status, byte[] body) throws IOException {
+        exchange.sendResponseHeaders(status, body.length == 0 ? -1 : body.length);
+        exchange.getResponseBody().write(body);
+        exchange.close();
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+        if (executor != null) {
+            executor.shutdownNow();
+        }
+    }
+}
@@ -0,0 +1,60 @@
+package platform.qa.protocols;
+
+import org.junit.jupiter.api.Test;
+import platform.qa.rest.utils.JsonArrayStream;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class JsonArrayStreamTest {
+
+    @Test
+    public void elementsAreReadFromArrayTest() {
+        var json = "[{\"id\":\"1\",\"name\":\"first\"},{\"id\":\"2\",\"nested\":{\"a\":[1,2]}}]";
+
+        List<Map> items;
+        try (var stream = JsonArrayStream.<Map>of(input(json), Map.class)) {
+            items = stream.collect(Collectors.toList());
+        }
+
+        assertEquals(2, items.size());
+        assertEquals("first", items.get(0).get("name"));
+        assertEquals("2", items.get(1).get("id"));
+    }
+
+    @Test
+    public void inputIsClosedWithStreamTest() {
+        var closed = new AtomicBoolean();
+        InputStream input = new ByteArrayInputStream("[]".getBytes(StandardCharsets.UTF_8)) {
+            @Override
+            public void close() {
+                closed.set(true);
+            }
+        };
+
+        try (var stream = JsonArrayStream.of(input, Map.class)) {
+            assertEquals(0, stream.count());
+        }
+
+        assertTrue(closed.get());
+    }
+
+    @Test
+    public void objectIsRejectedTest() {
+        assertThatThrownBy(() -> JsonArrayStream.of(input("{\"id\":1}"), Map.class))
+                .isInstanceOf(IllegalStateException.class);
+    }
+
+    private static InputStream input(String json) {
+        return new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8));
+    }
+}
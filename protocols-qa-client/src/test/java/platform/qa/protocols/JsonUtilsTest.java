@@ -0,0 +1,60 @@
+package platform.qa.protocols;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import platform.qa.rest.utils.JsonEngine;
+import platform.qa.rest.utils.JsonUtils;
+
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+public class JsonUtilsTest {
+
+    public static class Item {
+        public String name;
+        public int count;
+    }
+
+    @AfterEach
+    public void resetEngine() {
+        JsonUtils.setEngine(JsonEngine.GSON);
+    }
+
+    @Test
+    public void readersAndWritersAreCachedTest() {
+        assertSame(JsonUtils.readerFor(Item.class), JsonUtils.readerFor(Item.class));
+        assertSame(JsonUtils.writerFor(Item.class), JsonUtils.writerFor(Item.class));
+    }
+
+    @Test
+    public void exposedObjectMapperDoesNotChangeSharedConfigurationTest() {
+        JsonUtils.getObjectMapper().configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, true);
+        JsonUtils.setEngine(JsonEngine.JACKSON);
+
+        Item item = JsonUtils.fromJson("{\"name\":\"a\",\"unknown\":true}", Item.class);
+
+        assertEquals("a", item.name);
+        assertNotSame(JsonUtils.getObjectMapper(), JsonUtils.getObjectMapper());
+    }
+
+    @Test
+    public void jacksonEngineIgnoresUnknownPropertiesTest() {
+        JsonUtils.setEngine(JsonEngine.JACKSON);
+
+        Item item = JsonUtils.fromJson("{\"name\":\"a\",\"count\":2,\"unknown\":true}", Item.class);
+
+        assertEquals("a", item.name);
+        assertEquals(2, item.count);
+        assertEquals("{\"name\":\"a\",\"count\":2}", JsonUtils.toJson(item));
+    }
+
+    @Test
+    public void gsonEngineIsUsedByDefaultTest() {
+        assertEquals("{\"key\":\"value\"}", JsonUtils.toJson(Map.of("key", "value")));
+        assertEquals(3, JsonUtils.<Item>fromJson("{\"count\":3}", Item.class).count);
+    }
+}
@@ -0,0 +1,85 @@
+package platform.qa.protocols;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import platform.qa.rest.client.impl.RestClientImpl;
+import platform.qa.rest.load.LoadGenerator;
+import platform.qa.rest.load.LoadProfile;
+
+import java.time.Duration;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class LoadGeneratorTest {
+    HttpStub stub;
+    RestClientImpl client;
+
+    @BeforeEach
+    public void startServer() {
+        stub = HttpStub.start(8).handle("/items/", exchange -> {
+            if (exchange.getRequestURI().getPath().endsWith("slow")) {
+                try {
+                    Thread.sleep(50);
+                } catch (InterruptedException ignored) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+            HttpStub.respond(exchange, 200, "{}");
+        });
+        client = new RestClientImpl(stub.getUrl(), "token");
+    }
+
+    @AfterEach
+    public void stopServer() {
+        stub.close();
+    }
+
+    @Test
+    public void openModelKeepsTargetRateTest() {
+        var report = new LoadGenerator<>(client).run(LoadProfile.openModel(50, Duration.ofSeconds(1)),
+                restClient -> restClient.get("/items/{id}", Map.of("id", "1"), String.class, 200));
+
+        assertFalse(report.hasFailures(), report.toString());
+        assertEquals(50, report.getTotal());
+    }
+
+    @Test
+    public void waitingForWorkerIsIncludedIntoResponseTimeTest() {
+        var profile = LoadProfile.openModel(100, Duration.ofMillis(500)).toBuilder().maxConcurrency(1).build();
+
+        var report = new LoadGenerator<>(client).run(profile,
+                restClient -> restClient.get("/items/{id}", Map.of("id", "slow"), String.class, 200));
+
+        assertTrue(report.getResponseTime().getPercentile(50) > 4 * report.getServiceTime().getPercentile(50),
+                report.toString());
+    }
+
+    @Test
+    public void closedModelCountsFailuresTest() {
+        var report = new LoadGenerator<>(client).run(LoadProfile.closedModel(4, Duration.ofMillis(300)),
+                restClient -> restClient.get("/items/{id}", Map.of("id", "1"), String.class, 201));
+
+        assertTrue(report.getTotal() > 0);
+        assertEquals(report.getTotal(), report.getFailures());
+        assertEquals(1, report.getErrors().size());
+    }
+
+    @Test
+    public void invalidProfileIsRejectedTest() {
+        assertThatThrownBy(() -> LoadProfile.openModel(0, Duration.ofSeconds(1)))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> LoadProfile.closedModel(0, Duration.ofSeconds(1)))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> LoadProfile.openModel(10, Duration.ofSeconds(-1)))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> LoadProfile.builder().rampUp(Duration.ofSeconds(-1)).build())
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> LoadProfile.builder().maxConcurrency(0).build())
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,114 @@
+package platform.qa.protocols;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import platform.qa.rest.RestApiClient;
+import platform.qa.rest.cache.GetCacheSettings;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class ResponseCacheTest {
+    HttpStub stub;
+    AtomicInteger requests = new AtomicInteger();
+    AtomicInteger revalidations = new AtomicInteger();
+    CountDownLatch started = new CountDownLatch(1);
+
+    @BeforeEach
+    public void startServer() {
+        stub = HttpStub.start(8).handle("/items/", exchange -> {
+            requests.incrementAndGet();
+            started.countDown();
+            exchange.getResponseHeaders().set("ETag", "\"v1\"");
+            if ("\"v1\"".equals(exchange.getRequestHeaders().getFirst("If-None-Match"))) {
+                revalidations.incrementAndGet();
+                HttpStub.respond(exchange, 304, new byte[0]);
+                return;
+            }
+            try {
+                Thread.sleep(300);
+            } catch (InterruptedException ignored) {
+                Thread.currentThread().interrupt();
+            }
+            HttpStub.respond(exchange, 200, "{\"id\":\"1\"}");
+        });
+    }
+
+    @AfterEach
+    public void stopServer() {
+        stub.close();
+    }
+
+    @Test
+    public void concurrentIdenticalGetsShareOneRequestTest() {
+        var client = new RestApiClient(stub.getUrl())
+                .enableGetCache(GetCacheSettings.builder().ttl(Duration.ofSeconds(30)).build());
+        var executor = Executors.newFixedThreadPool(16);
+
+        try {
+            List<CompletableFuture<String>> futures = IntStream.range(0, 16)
+                    .mapToObj(i -> CompletableFuture.supplyAsync(
+                            () -> client.get("1", "/items/").body().asString(), executor))
+                    .collect(Collectors.toList());
+            futures.forEach(future -> assertEquals("{\"id\":\"1\"}", future.join()));
+        } finally {
+            executor.shutdown();
+        }
+
+        assertEquals(1, requests.get());
+        assertEquals("{\"id\":\"1\"}", client.get("1", "/items/").body().asString());
+        assertEquals(1, requests.get());
+    }
+
+    @Test
+    public void expiredResponseIsRevalidatedByEtagTest() {
+        var client = new RestApiClient(stub.getUrl())
+                .enableGetCache(GetCacheSettings.builder().ttl(Duration.ofNanos(1)).build());
+
+        client.get("1", "/items/");
+        var response = client.get("1", "/items/");
+
+        assertEquals(200, response.statusCode());
+        assertEquals("{\"id\":\"1\"}", response.body().asString());
+        assertEquals(2, requests.get());
+        assertEquals(1, revalidations.get());
+    }
+
+    @Test
+    public void zeroTtlDoesNotStoreResponsesTest() {
+        var client = new RestApiClient(stub.getUrl())
+                .enableGetCache(GetCacheSettings.builder().ttl(Duration.ZERO).build());
+
+        client.get("1", "/items/");
+        var response = client.get("1", "/items/");
+
+        assertEquals("{\"id\":\"1\"}", response.body().asString());
+        assertEquals(2, requests.get());
+        assertEquals(0, revalidations.get());
+    }
+
+    @Test
+    public void responseLoadedBeforeHeaderChangeIsNotCachedTest() throws InterruptedException {
+        var client = new RestApiClient(stub.getUrl())
+                .enableGetCache(GetCacheSettings.builder().ttl(Duration.ofSeconds(30)).build());
+
+        var load = CompletableFuture.runAsync(() -> client.get("1", "/items/"));
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+        client.setToken("new-token");
+        load.join();
+        client.get("1", "/items/");
+
+        assertEquals(2, requests.get());
+    }
+}
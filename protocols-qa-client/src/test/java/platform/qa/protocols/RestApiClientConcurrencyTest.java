@@ -0,0 +1,51 @@
+package platform.qa.protocols;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import platform.qa.rest.RestApiClient;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class RestApiClientConcurrencyTest {
+    HttpStub stub;
+
+    @BeforeEach
+    public void startServer() {
+        stub = HttpStub.start(8).handle("/echo", exchange -> HttpStub.respond(exchange, 200,
+                exchange.getRequestURI().getQuery() + "|"
+                        + exchange.getRequestHeaders().getOrDefault("X-Access-Token", List.of())));
+    }
+
+    @AfterEach
+    public void stopServer() {
+        stub.close();
+    }
+
+    @Test
+    public void sharedClientDoesNotLeakQueryParamsBetweenCallsTest() {
+        var client = new RestApiClient(stub.getUrl())
+                .setToken("token");
+        var executor = Executors.newFixedThreadPool(8);
+
+        try {
+            List<CompletableFuture<String>> futures = IntStream.range(0, 64)
+                    .mapToObj(i -> CompletableFuture.supplyAsync(
+                            () -> client.getWithParams("/echo", Map.of("n", i)).body().asString(), executor))
+                    .collect(Collectors.toList());
+
+            for (int i = 0; i < futures.size(); i++) {
+                assertEquals("n=" + i + "|[token]", futures.get(i).join());
+            }
+        } finally {
+            executor.shutdown();
+        }
+    }
+}
@@ -0,0 +1,160 @@
+package platform.qa.protocols;
+
+import io.restassured.response.Response;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import platform.qa.rest.exception.CircuitBreakerOpenException;
+import platform.qa.rest.retry.CircuitBreaker;
+import platform.qa.rest.retry.RetryBudget;
+import platform.qa.rest.retry.RetryExecutor;
+import platform.qa.rest.retry.RetryPolicy;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public class RetryExecutorTest {
+    Response unavailable = mockResponse(503, null);
+    Response ok = mockResponse(200, null);
+
+    @BeforeEach
+    public void resetBreakers() {
+        CircuitBreaker.resetAll();
+    }
+
+    @Test
+    public void retriesUntilServiceIsReadyTest() {
+        var calls = new AtomicInteger();
+        var policy = fastPolicy().build();
+
+        var response = new RetryExecutor(policy)
+                .execute("ready:80", () -> calls.incrementAndGet() < 3 ? unavailable : ok);
+
+        assertEquals(200, response.statusCode());
+        assertEquals(3, calls.get());
+    }
+
+    @Test
+    public void stopsWhenBudgetIsExhaustedTest() {
+        var calls = new AtomicInteger();
+        var policy = fastPolicy().budget(new RetryBudget(2)).build();
+
+        var response = new RetryExecutor(policy)
+                .execute("budget:80", () -> {
+                    calls.incrementAndGet();
+                    return unavailable;
+                });
+
+        assertEquals(503, response.statusCode());
+        assertEquals(3, calls.get());
+    }
+
+    @Test
+    public void rejectsRequestsWhenCircuitIsOpenTest() {
+        var policy = fastPolicy()
+                .maxElapsedTime(Duration.ofMillis(20))
+                .circuitBreaker(CircuitBreaker.Settings.builder().failureThreshold(2).build())
+                .build();
+        var executor = new RetryExecutor(policy);
+
+        assertEquals(503, executor.execute("down:80", () -> unavailable).statusCode());
+        assertEquals(503, executor.execute("down:80", () -> unavailable).statusCode());
+        assertThatThrownBy(() -> executor.execute("down:80", () -> ok))
+                .isInstanceOf(CircuitBreakerOpenException.class);
+    }
+
+    @Test
+    public void retriesLongerThanFailureThresholdUntilMaxElapsedTimeTest() {
+        var calls = new AtomicInteger();
+        var policy = fastPolicy()
+                .maxElapsedTime(Duration.ofMillis(300))
+                .circuitBreaker(CircuitBreaker.Settings.builder().failureThreshold(3).build())
+                .build();
+        long start = System.nanoTime();
+
+        var response = new RetryExecutor(policy)
+                .execute("warming-up:80", () -> {
+                    calls.incrementAndGet();
+                    return unavailable;
+                });
+
+        assertEquals(503, response.statusCode());
+        assertTrue(calls.get() > 3);
+        assertTrue(Duration.ofNanos(System.nanoTime() - start).compareTo(Duration.ofMillis(300)) >= 0);
+    }
+
+    @Test
+    public void breakerSettingsOfLaterPolicyAreAppliedTest() {
+        var strict = CircuitBreaker.Settings.builder().failureThreshold(1).build();
+        var lenient = CircuitBreaker.Settings.builder().failureThreshold(5).build();
+
+        CircuitBreaker.forHost("shared:80", strict).onFailure();
+
+        assertEquals(CircuitBreaker.State.OPEN, CircuitBreaker.forHost("shared:80", strict).getState());
+        assertEquals(CircuitBreaker.State.CLOSED, CircuitBreaker.forHost("shared:80", lenient).getState());
+        assertEquals(CircuitBreaker.forHost("shared:80", strict),
+                CircuitBreaker.forHost("shared:80", CircuitBreaker.Settings.builder().failureThreshold(1).build()));
+    }
+
+    @Test
+    public void halfOpenBreakerLetsSingleTrialCallThroughTest() {
+        var breaker = CircuitBreaker.forHost("recovering:80", CircuitBreaker.Settings.builder()
+                .failureThreshold(1)
+                .openDuration(Duration.ZERO)
+                .build());
+        breaker.onFailure();
+
+        assertTrue(breaker.allowRequest());
+        assertEquals(CircuitBreaker.State.HALF_OPEN, breaker.getState());
+        assertFalse(breaker.allowRequest());
+
+        breaker.onFailure();
+        assertTrue(breaker.allowRequest());
+        assertFalse(breaker.allowRequest());
+
+        breaker.onSuccess();
+        assertTrue(breaker.allowRequest());
+        assertTrue(breaker.allowRequest());
+    }
+
+    @Test
+    public void retryAfterHeaderIsRespectedTest() {
+        var policy = RetryPolicy.builder().build();
+
+        assertEquals(Duration.ofSeconds(7), policy.delayBefore(1, mockResponse(503, "7")));
+    }
+
+    @Test
+    public void delayGrowsExponentiallyAndIsCappedTest() {
+        var policy = RetryPolicy.builder()
+                .initialDelay(Duration.ofMillis(100))
+                .maxDelay(Duration.ofMillis(300))
+                .jitter(0)
+                .build();
+
+        assertEquals(Duration.ofMillis(100), policy.delayBefore(1, unavailable));
+        assertEquals(Duration.ofMillis(200), policy.delayBefore(2, unavailable));
+        assertEquals(Duration.ofMillis(300), policy.delayBefore(5, unavailable));
+        assertTrue(RetryPolicy.builder().build().delayBefore(1, unavailable).toMillis() <= 200);
+    }
+
+    private RetryPolicy.RetryPolicyBuilder fastPolicy() {
+        return RetryPolicy.builder()
+                .initialDelay(Duration.ofMillis(1))
+                .maxDelay(Duration.ofMillis(2))
+                .budget(RetryBudget.unlimited());
+    }
+
+    private static Response mockResponse(int statusCode, String retryAfter) {
+        Response response = mock(Response.class);
+        when(response.statusCode()).thenReturn(statusCode);
+        when(response.header("Retry-After")).thenReturn(retryAfter);
+        return response;
+    }
+}
@@ -0,0 +1,89 @@
+package platform.qa.protocols;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import platform.qa.rest.SoapClient;
+import platform.qa.rest.logging.HttpLogSettings;
+import platform.qa.rest.soap.EnvelopeTemplate;
+import platform.qa.rest.soap.SoapResponseReader;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+public class SoapClientTest {
+    private static final String RESPONSE = "<soapenv:Envelope xmlns:soapenv=\"http://schemas.xmlsoap.org/soap/envelope/\">"
+            + "<soapenv:Header><id>header-id</id></soapenv:Header>"
+            + "<soapenv:Body><ns:response xmlns:ns=\"urn:test\"><ns:status>OK</ns:status>"
+            + "<ns:items><ns:item>first</ns:item><ns:item><![CDATA[second & more]]></ns:item></ns:items>"
+            + "</ns:response></soapenv:Body></soapenv:Envelope>";
+
+    HttpStub stub;
+
+    @AfterEach
+    public void stopServer() {
+        if (stub != null) {
+            stub.close();
+        }
+    }
+
+    @Test
+    public void templateIsParsedOnceAndValuesAreEscapedTest() {
+        var template = EnvelopeTemplate.of("<request><name>${name}</name><code>${ code }</code></request>");
+
+        assertSame(template, EnvelopeTemplate.of("<request><name>${name}</name><code>${ code }</code></request>"));
+        assertEquals(List.of("name", "code"), template.getPlaceholders());
+        assertEquals("<request><name>A &amp; B &lt;C&gt;</name><code>42</code></request>",
+                template.bind(Map.of("name", "A & B <C>", "code", 42)));
+        assertThatThrownBy(() -> template.bind(Map.of("name", "A")))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    public void templateCacheIsBoundedTest() {
+        var first = EnvelopeTemplate.of("<request><id>${id}</id><seq>0</seq></request>");
+        for (int i = 1; i <= 300; i++) {
+            EnvelopeTemplate.of("<request><id>${id}</id><seq>" + i + "</seq></request>");
+        }
+
+        assertNotSame(first, EnvelopeTemplate.of("<request><id>${id}</id><seq>0</seq></request>"));
+    }
+
+    @Test
+    public void valuesAreExtractedByPathsTest() {
+        var values = SoapResponseReader.extract(stream(RESPONSE),
+                "/Envelope/Body/response/status", "//item", "//Header/*", "//missing");
+
+        assertEquals("OK", values.get("/Envelope/Body/response/status"));
+        assertEquals("first", values.get("//item"));
+        assertEquals("header-id", values.get("//Header/*"));
+        assertNull(values.get("//missing"));
+        assertEquals(List.of("first", "second & more"), SoapResponseReader.extractAll(stream(RESPONSE), "//items/item"));
+    }
+
+    @Test
+    public void postAndExtractReadsResponseStreamTest() {
+        stub = HttpStub.start().handle("/soap", exchange -> {
+            var request = new String(exchange.getRequestBody().readAllBytes(), StandardCharsets.UTF_8);
+            HttpStub.respond(exchange, 200, request.contains("<code>42</code>") ? RESPONSE : "<fault/>");
+        });
+        var client = new SoapClient(stub.getUrl());
+        client.setLogSettings(HttpLogSettings.disabled());
+
+        var envelope = EnvelopeTemplate.of("<request><code>${code}</code></request>").bind(Map.of("code", 42));
+        var values = client.postAndExtract(envelope, "/soap", "//status");
+
+        assertEquals(Map.of("//status", "OK"), values);
+    }
+
+    private static ByteArrayInputStream stream(String value) {
+        return new ByteArrayInputStream(value.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,125 @@
+package platform.qa.protocols;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import platform.qa.rest.auth.AccessToken;
+import platform.qa.rest.auth.KeycloakTokenProvider;
+import platform.qa.rest.auth.RefreshingTokenProvider;
+import platform.qa.rest.client.impl.RestClientImpl;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class TokenProviderTest {
+    HttpStub stub;
+
+    @AfterEach
+    public void stopServer() {
+        if (stub != null) {
+            stub.close();
+        }
+    }
+
+    @Test
+    public void concurrentCallersShareSingleTokenRequestTest() throws Exception {
+        var fetches = new AtomicInteger();
+        var release = new CountDownLatch(1);
+        var provider = new RefreshingTokenProvider(() -> {
+            fetches.incrementAndGet();
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return new AccessToken("token", Instant.now().plusSeconds(600));
+        });
+
+        var executor = Executors.newFixedThreadPool(16);
+        try {
+            List<Callable<String>> calls = IntStream.range(0, 16)
+                    .mapToObj(i -> (Callable<String>) provider::getToken)
+                    .collect(Collectors.toList());
+            var futures = calls.stream().map(executor::submit).collect(Collectors.toList());
+            Thread.sleep(200);
+            release.countDown();
+
+            for (var future : futures) {
+                assertEquals("token", future.get());
+            }
+        } finally {
+            executor.shutdownNow();
+            provider.close();
+        }
+        assertEquals(1, fetches.get());
+    }
+
+    @Test
+    public void tokenIsRefreshedBeforeExpirationTest() throws InterruptedException {
+        var fetches = new AtomicInteger();
+        var provider = new RefreshingTokenProvider(
+                () -> new AccessToken("token-" + fetches.incrementAndGet(), Instant.now().plusSeconds(7)),
+                Duration.ofSeconds(30));
+
+        try {
+            assertEquals("token-1", provider.getToken());
+            assertEquals("token-1", provider.getToken());
+            Thread.sleep(4_000);
+            assertEquals(2, fetches.get());
+            assertEquals("token-2", provider.getToken());
+            assertEquals(2, fetches.get());
+        } finally {
+            provider.close();
+        }
+    }
+
+    @Test
+    public void expirationIsTakenFromJwtTest() {
+        var payload = Base64.getUrlEncoder().withoutPadding()
+                .encodeToString("{\"exp\":1700000000}".getBytes(StandardCharsets.UTF_8));
+
+        assertEquals(Instant.ofEpochSecond(1700000000), AccessToken.fromJwt("h." + payload + ".s").getExpiresAt());
+        assertEquals(Instant.MAX, AccessToken.fromJwt("opaque").getExpiresAt());
+    }
+
+    @Test
+    public void keycloakTokenIsSentAndRenewedAfter401Test() {
+        var issued = new AtomicInteger();
+        List<String> received = new CopyOnWriteArrayList<>();
+        stub = HttpStub.start().handle("/realms/test/protocol/openid-connect/token", exchange -> {
+            var form = new String(exchange.getRequestBody().readAllBytes(), StandardCharsets.UTF_8);
+            assertTrue(form.contains("grant_type=client_credentials"));
+            HttpStub.respond(exchange, 200,
+                    "{\"access_token\":\"token-" + issued.incrementAndGet() + "\",\"expires_in\":300}");
+        }).handle("/items", exchange -> {
+            var token = exchange.getRequestHeaders().getFirst("X-Access-Token");
+            received.add(token);
+            HttpStub.respond(exchange, "token-1".equals(token) && received.size() == 2 ? 401 : 200, new byte[0]);
+        });
+        var url = stub.getUrl();
+
+        try (var provider = KeycloakTokenProvider.clientCredentials(url + "/", "test", "client", "secret")) {
+            var client = new RestClientImpl(url, "static-token");
+            client.setTokenProvider(provider);
+
+            client.get("/items", null, String.class, 200);
+            client.get("/items", null, String.class, 401);
+            client.get("/items", null, String.class, 200);
+        }
+
+        assertEquals(List.of("token-1", "token-1", "token-2"), received);
+        assertEquals(2, issued.get());
+    }
+}